@@ -18,4 +18,5 @@ dependencies {
     implementation(libs.schema.validator) {
         exclude("tools.jackson.dataformat", "jackson-dataformat-yaml")
     }
+    runtimeOnly(project(":dsp:dsp-schemas"))
 }
@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.api.client.catalog;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 /**
  * CatalogClient is an interface that defines methods for interacting with a catalog service.
@@ -42,4 +45,26 @@ public interface CatalogClient {
      * @return a map representing the dataset
      */
     Map<String, Object> getDataset(String datasetId, boolean expectError);
+
+    /**
+     * Retrieves the catalog without blocking the caller. The default implementation executes on the calling thread.
+     *
+     * @param message     a map containing parameters for the request
+     * @param expectError whether to expect an error in the response
+     * @return a future completed with a map representing the catalog
+     */
+    default CompletableFuture<Map<String, Object>> getCatalogAsync(Map<String, Object> message, boolean expectError) {
+        return supplyCompleted(() -> getCatalog(message, expectError));
+    }
+
+    /**
+     * Retrieves a specific dataset by its ID without blocking the caller. The default implementation executes on the calling thread.
+     *
+     * @param datasetId   the ID of the dataset to retrieve
+     * @param expectError whether to expect an error in the response
+     * @return a future completed with a map representing the dataset
+     */
+    default CompletableFuture<Map<String, Object>> getDatasetAsync(String datasetId, boolean expectError) {
+        return supplyCompleted(() -> getDataset(datasetId, expectError));
+    }
 }
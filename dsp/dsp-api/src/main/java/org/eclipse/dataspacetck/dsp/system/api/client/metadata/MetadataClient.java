@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.api.client.metadata;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 public interface MetadataClient {
     
@@ -22,4 +25,11 @@ public interface MetadataClient {
      * Retrieves the metadata.
      */
     Map<String, Object> getMetadata();
+
+    /**
+     * Retrieves the metadata without blocking the caller. The default implementation executes on the calling thread.
+     */
+    default CompletableFuture<Map<String, Object>> getMetadataAsync() {
+        return supplyCompleted(this::getMetadata);
+    }
 }
@@ -56,4 +56,10 @@ public interface Connector {
      * @return a map containing metadata information
      */
     Map<String, Object> getMetadata();
+
+    /**
+     * Throws the first assertion error a listener raised on an event thread while handling an event of the negotiation or
+     * transfer process.
+     */
+    void verifyEvents(String processId);
 }
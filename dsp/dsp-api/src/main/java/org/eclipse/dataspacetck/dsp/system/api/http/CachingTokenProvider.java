@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Caches the tokens of a {@link TokenProvider} until they expire. A token entering the refresh-ahead window is replaced on a
+ * background thread while callers keep using the current one. Concurrent callers that find no valid token wait on a single
+ * shared refresh instead of minting one each, for at most the refresh timeout.
+ * <p>
+ * The refresh-ahead window is capped at half the lifetime of each token, so providers issuing short-lived tokens are not called
+ * on every request. Background refresh failures are passed to the failure listener; the current token stays in use and the next
+ * attempt is made halfway to its expiry.
+ */
+public class CachingTokenProvider implements Supplier<String>, AutoCloseable {
+    public static final Duration DEFAULT_REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final TokenProvider provider;
+    private final Duration defaultTtl;
+    private final Duration refreshAhead;
+    private final Duration refreshTimeout;
+    private final Consumer<RuntimeException> failureListener;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final AtomicReference<CompletableFuture<TokenProvider.Token>> inFlight = new AtomicReference<>();
+    private volatile CachedToken current;
+
+    public CachingTokenProvider(TokenProvider provider, Duration defaultTtl, Duration refreshAhead) {
+        this(provider, defaultTtl, refreshAhead, DEFAULT_REFRESH_TIMEOUT, e -> {
+        });
+    }
+
+    public CachingTokenProvider(TokenProvider provider, Duration defaultTtl, Duration refreshAhead, Duration refreshTimeout,
+                                Consumer<RuntimeException> failureListener) {
+        this(provider, defaultTtl, refreshAhead, refreshTimeout, failureListener, Clock.systemUTC());
+    }
+
+    CachingTokenProvider(TokenProvider provider, Duration defaultTtl, Duration refreshAhead, Duration refreshTimeout,
+                         Consumer<RuntimeException> failureListener, Clock clock) {
+        if (defaultTtl.isNegative() || defaultTtl.isZero()) {
+            throw new IllegalArgumentException("Token TTL must be positive: " + defaultTtl);
+        }
+        if (refreshAhead.isNegative() || refreshAhead.compareTo(defaultTtl) >= 0) {
+            throw new IllegalArgumentException("Refresh-ahead must be at least zero and shorter than the token TTL: " + refreshAhead);
+        }
+        if (refreshTimeout.isNegative() || refreshTimeout.isZero()) {
+            throw new IllegalArgumentException("Refresh timeout must be positive: " + refreshTimeout);
+        }
+        this.provider = provider;
+        this.defaultTtl = defaultTtl;
+        this.refreshAhead = refreshAhead;
+        this.refreshTimeout = refreshTimeout;
+        this.failureListener = failureListener;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "tck-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String get() {
+        var cached = current;
+        var now = clock.instant();
+        if (cached != null && now.isBefore(cached.token().expiresAt())) {
+            if (!now.isBefore(cached.refreshAt())) {
+                refresh();
+            }
+            return cached.token().value();
+        }
+        try {
+            return refresh().get(refreshTimeout.toMillis(), MILLISECONDS).value();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out after " + refreshTimeout.toMillis() + " ms waiting for an authorization token");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Unable to obtain an authorization token", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for an authorization token", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a refresh unless one is already running and returns the future of the running refresh.
+     */
+    private CompletableFuture<TokenProvider.Token> refresh() {
+        var future = new CompletableFuture<TokenProvider.Token>();
+        var running = inFlight.compareAndExchange(null, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    var token = provider.getToken();
+                    var now = clock.instant();
+                    var expiresAt = token.expiresAt() != null ? token.expiresAt() : now.plus(defaultTtl);
+                    current = new CachedToken(new TokenProvider.Token(token.value(), expiresAt), refreshAt(now, expiresAt));
+                    inFlight.set(null);
+                    future.complete(current.token());
+                } catch (RuntimeException e) {
+                    if (postponeRefresh()) {
+                        // callers are still served the current token, so the failure would otherwise go unnoticed
+                        failureListener.accept(e);
+                    }
+                    inFlight.set(null);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.set(null);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Instant refreshAt(Instant now, Instant expiresAt) {
+        var halfLifetime = Duration.between(now, expiresAt).dividedBy(2);
+        var ahead = refreshAhead.compareTo(halfLifetime) < 0 ? refreshAhead : halfLifetime;
+        return expiresAt.minus(ahead);
+    }
+
+    /**
+     * Moves the next background attempt halfway to the expiry of the current token, so a failing provider is not called on every
+     * request. Returns false if there is no valid token, in which case the failure is reported to the waiting callers.
+     */
+    private boolean postponeRefresh() {
+        var cached = current;
+        var now = clock.instant();
+        if (cached == null || !now.isBefore(cached.token().expiresAt())) {
+            return false;
+        }
+        current = new CachedToken(cached.token(), now.plus(Duration.between(now, cached.token().expiresAt()).dividedBy(2)));
+        return true;
+    }
+
+    private record CachedToken(TokenProvider.Token token, Instant refreshAt) {
+    }
+}
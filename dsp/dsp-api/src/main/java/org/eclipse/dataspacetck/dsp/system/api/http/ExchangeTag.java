@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.HttpUrl;
+
+import java.util.Set;
+
+/**
+ * Identifies the DSP endpoint an HTTP exchange targets. The path template replaces process and dataset ids with {@code %s}
+ * and omits the connector base URL, e.g. {@code negotiations/%s/termination}.
+ */
+public record ExchangeTag(String method, String pathTemplate, String messageType) {
+    private static final Set<String> ROOT_SEGMENTS = Set.of("negotiations", "transfers", "catalog", ".well-known");
+    private static final Set<String> ID_PARENT_SEGMENTS = Set.of("negotiations", "transfers", "datasets");
+    private static final Set<String> FIXED_SEGMENTS = Set.of("request", "initiate");
+
+    public static ExchangeTag of(String method, String url, String messageType) {
+        return new ExchangeTag(method, pathTemplate(url), messageType);
+    }
+
+    @Override
+    public String toString() {
+        return messageType.isEmpty() ? method + " " + pathTemplate : method + " " + pathTemplate + " [" + messageType + "]";
+    }
+
+    static String pathTemplate(String url) {
+        var httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null) {
+            return url;
+        }
+        var segments = httpUrl.pathSegments();
+        var start = 0;
+        while (start < segments.size() && !ROOT_SEGMENTS.contains(segments.get(start))) {
+            start++;
+        }
+        if (start == segments.size()) {
+            start = 0;
+        }
+        var template = new StringBuilder();
+        for (var i = start; i < segments.size(); i++) {
+            var segment = segments.get(i);
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (!template.isEmpty()) {
+                template.append('/');
+            }
+            var isId = i > start && ID_PARENT_SEGMENTS.contains(segments.get(i - 1)) && !FIXED_SEGMENTS.contains(segment);
+            template.append(isId ? "%s" : segment);
+        }
+        return template.toString();
+    }
+}
@@ -15,28 +15,85 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.http;
 
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.EventListener;
 import okhttp3.Interceptor;
-import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.RequestBody;
 import okhttp3.Response;
+import org.eclipse.dataspacetck.dsp.system.api.message.DeferredValidation;
+import org.eclipse.dataspacetck.dsp.system.api.message.typed.TypedMessages;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serializePlainJson;
+import static com.apicatalog.jsonld.lang.Keywords.TYPE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.compactMessage;
 
 /**
  * Utility methods for HTTP requests.
  */
 public class HttpFunctions {
-    private static Interceptor authorizationInterceptor = chain -> chain.proceed(chain.request());
+    public static final RetryPolicy DEFAULT_RETRY_POLICY = RetryPolicy.exponential(3, Duration.ofMillis(200), 0);
+    private static final OkHttpClient DEFAULT_HTTP_CLIENT = new OkHttpClient();
+    private static final RetryStatistics RETRY_STATISTICS = new RetryStatistics();
+    private static final WireStatistics WIRE_STATISTICS = new WireStatistics();
+    private static final EventListener.Factory WIRE_TIMING_FACTORY = WireTimingListener.factory(WIRE_STATISTICS);
+    private static final Interceptor AUTHORIZATION_INTERCEPTOR = chain -> authorizationInterceptor.intercept(chain);
+    private static volatile Interceptor authorizationInterceptor = chain -> chain.proceed(chain.request());
+    private static volatile OkHttpClient httpClient = DEFAULT_HTTP_CLIENT;
+    private static volatile RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
+    private static volatile ResponseCache responseCache;
 
     private HttpFunctions() {
     }
 
+    /**
+     * Registers the client whose connection pool and dispatcher are shared by all requests. Passing null restores the default client.
+     */
+    public static void registerHttpClient(@Nullable OkHttpClient client) {
+        httpClient = client != null ? client : DEFAULT_HTTP_CLIENT;
+    }
+
+    /**
+     * Registers the policy applied to rejected POST requests. Passing null restores the default policy.
+     */
+    public static void registerRetryPolicy(@Nullable RetryPolicy policy) {
+        retryPolicy = policy != null ? policy : DEFAULT_RETRY_POLICY;
+    }
+
+    /**
+     * Registers the cache used to revalidate GET responses. Passing null disables caching.
+     */
+    public static void registerResponseCache(@Nullable ResponseCache cache) {
+        responseCache = cache;
+    }
+
+    public static RetryStatistics getRetryStatistics() {
+        return RETRY_STATISTICS;
+    }
+
+    /**
+     * Returns the wire timings of all exchanges, grouped by DSP endpoint.
+     */
+    public static WireStatistics getWireStatistics() {
+        return WIRE_STATISTICS;
+    }
+
     public static void registerAuthorizationInterceptor(String authorizationHeader) {
         authorizationInterceptor = chain -> {
             var request = chain.request();
@@ -47,7 +104,16 @@ public class HttpFunctions {
     }
 
     public static void registerAuthorizationInterceptor(Supplier<String> authorizationHeaderProvider) {
-        authorizationInterceptor = chain -> {
+        authorizationInterceptor = createAuthorizationInterceptor(authorizationHeaderProvider);
+    }
+
+    /**
+     * Returns an interceptor that sets the Authorization header from the provider. Clients pass it to the request methods to use
+     * their own credentials instead of the registered ones, so connector targets with different credentials can be verified in
+     * the same JVM.
+     */
+    public static Interceptor createAuthorizationInterceptor(Supplier<String> authorizationHeaderProvider) {
+        return chain -> {
             var request = chain.request();
             var authenticatedRequest = request.newBuilder()
                     .header("Authorization", authorizationHeaderProvider.get()).build();
@@ -64,7 +130,7 @@ public class HttpFunctions {
     }
 
     public static Response postJson(String url, Object message, boolean expectError, boolean plain) {
-        return postJson(url, message, expectError, plain, authorizationInterceptor);
+        return postJson(url, message, expectError, plain, AUTHORIZATION_INTERCEPTOR);
     }
 
     public static Response postJson(String url, Object message, boolean expectError, Interceptor interceptor) {
@@ -72,43 +138,28 @@ public class HttpFunctions {
     }
 
     public static Response postJson(String url, Object message, boolean expectError, boolean plain, Interceptor interceptor) {
-        var interceptorToUse = interceptor != null ? interceptor : authorizationInterceptor;
-        var serialized = plain ? serializePlainJson(message) : serialize(message);
-        var requestBody = RequestBody.create(serialized, MediaType.get("application/json"));
-        var httpRequest = new Request.Builder()
-                .url(url)
-                .post(requestBody)
-                .build();
-
-        var httpClient = new OkHttpClient.Builder().addInterceptor(interceptorToUse).build();
-        int maxRetries = 3;
+        var client = createClient(interceptor != null ? interceptor : AUTHORIZATION_INTERCEPTOR);
+        var httpRequest = createPostRequest(url, message, plain);
+        var policy = retryPolicy;
         int attempt = 0;
-        long backoff = 200; // initial backoff in ms
 
         while (true) {
             try {
-                var response = httpClient.newCall(httpRequest).execute();
-                if (!expectError && response.code() != 404 && response.code() >= 400 && response.code() < 500 && attempt < maxRetries - 1) {
+                var response = client.newCall(httpRequest).execute();
+                var delay = nextDelay(policy, response, expectError, attempt);
+                if (delay.isPresent()) {
                     attempt++;
                     response.close();
                     try {
-                        Thread.sleep(backoff);
+                        Thread.sleep(delay.get().toMillis());
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         throw new RuntimeException(ie);
                     }
-                    backoff *= 2;
                     continue;
                 }
-                if (404 == response.code()) {
-                    throw new AssertionError("Unexpected 404 received for request: " + url);
-                } else if (!response.isSuccessful()) {
-                    if (response.code() < 400 || response.code() >= 500 || !expectError) {
-                        throw new AssertionError("Unexpected response code: " + response.code());
-                    }
-                } else if (expectError) {
-                    throw new AssertionError("Expected to throw an error on request: " + url);
-                }
+                RETRY_STATISTICS.recordCompletion(attempt + 1);
+                verifyPostResponse(url, response, expectError);
                 return response;
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -116,6 +167,37 @@ public class HttpFunctions {
         }
     }
 
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message) {
+        return postJsonAsync(url, message, false);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError) {
+        return postJsonAsync(url, message, expectError, false, AUTHORIZATION_INTERCEPTOR);
+    }
+
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError, Interceptor interceptor) {
+        return postJsonAsync(url, message, expectError, false, interceptor);
+    }
+
+    /**
+     * Posts the message without blocking the calling thread. The returned future completes with the response or exceptionally with the
+     * same errors {@link #postJson(String, Object, boolean, boolean, Interceptor)} would throw.
+     */
+    public static CompletableFuture<Response> postJsonAsync(String url, Object message, boolean expectError, boolean plain, Interceptor interceptor) {
+        var client = createClient(interceptor != null ? interceptor : AUTHORIZATION_INTERCEPTOR);
+        var policy = retryPolicy;
+        var future = new CompletableFuture<Response>();
+        try {
+            var httpRequest = createPostRequest(url, message, plain);
+            enqueue(client, httpRequest, 0, future,
+                    (response, attempt) -> nextDelay(policy, response, expectError, attempt),
+                    response -> verifyPostResponse(url, response, expectError));
+        } catch (RuntimeException | AssertionError e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     public static Response getJson(String url) {
         return getJson(url, false);
     }
@@ -125,22 +207,192 @@ public class HttpFunctions {
     }
 
     public static Response getJson(String url, boolean expectError, Interceptor interceptor) {
+        return executeGet(url, expectError, createClient(interceptor != null ? interceptor : AUTHORIZATION_INTERCEPTOR));
+    }
+
+    /**
+     * Performs a GET and parses the body. These requests are revalidated against the registered response cache, so only use this for
+     * resources that rarely change, such as datasets and metadata, not for process state. When the response carries a validator, the
+     * parsed result is cached per URL and validator, so a body the connector reports as unchanged is not parsed again. Parsed
+     * results are not cached while validation is deferred, since the parser then does not fail on an invalid body and a cache hit
+     * would skip its validation.
+     */
+    public static Map<String, Object> getJson(String url, boolean expectError, Interceptor interceptor, Function<InputStream, Map<String, Object>> parser) {
+        try (var response = executeGet(url, expectError, createCachingClient(interceptor))) {
+            var cache = responseCache;
+            var validator = response.header("ETag") != null ? response.header("ETag") : response.header("Last-Modified");
+            if (cache == null || validator == null || !response.isSuccessful() || DeferredValidation.isEnabled()) {
+                return parser.apply(response.body().byteStream());
+            }
+            return cache.parsed(url, validator, () -> parser.apply(response.body().byteStream()));
+        }
+    }
+
+    private static Response executeGet(String url, boolean expectError, OkHttpClient client) {
         var httpRequest = new Request.Builder()
                 .url(url)
                 .get()
+                .tag(ExchangeTag.class, ExchangeTag.of("GET", url, ""))
                 .build();
 
-        var httpClient = new OkHttpClient.Builder().addInterceptor(authorizationInterceptor).build();
         try {
-            var response = httpClient.newCall(httpRequest).execute();
-            if (404 == response.code() && !expectError) {
-                throw new AssertionError("Unexpected 404 received for request: " + url);
-            } else if (!response.isSuccessful() && !expectError) {
-                throw new AssertionError("Unexpected response code: " + response.code());
-            }
+            var response = client.newCall(httpRequest).execute();
+            RETRY_STATISTICS.recordCompletion(1);
+            verifyGetResponse(url, response, expectError);
             return response;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
+    public static CompletableFuture<Response> getJsonAsync(String url) {
+        return getJsonAsync(url, false);
+    }
+
+    public static CompletableFuture<Response> getJsonAsync(String url, boolean expectError) {
+        return getJsonAsync(url, expectError, null);
+    }
+
+    /**
+     * Performs the GET request without blocking the calling thread.
+     */
+    public static CompletableFuture<Response> getJsonAsync(String url, boolean expectError, Interceptor interceptor) {
+        var httpRequest = new Request.Builder()
+                .url(url)
+                .get()
+                .tag(ExchangeTag.class, ExchangeTag.of("GET", url, ""))
+                .build();
+
+        var client = createClient(interceptor != null ? interceptor : AUTHORIZATION_INTERCEPTOR);
+        var future = new CompletableFuture<Response>();
+        enqueue(client, httpRequest, 0, future,
+                (response, attempt) -> Optional.empty(),
+                response -> verifyGetResponse(url, response, expectError));
+        return future;
+    }
+
+    /**
+     * Creates a POST request whose body is streamed to the connection. JSON-LD messages are compacted and validated up front so
+     * that errors surface on the calling thread.
+     */
+    private static Request createPostRequest(String url, Object message, boolean plain) {
+        var document = plain ? message : compactMessage(message);
+        return new Request.Builder()
+                .url(url)
+                .post(new JsonRequestBody(document))
+                .tag(ExchangeTag.class, ExchangeTag.of("POST", url, messageType(document)))
+                .build();
+    }
+
+    private static String messageType(Object document) {
+        if (document instanceof JsonNode node && node.hasNonNull(TYPE)) {
+            return node.get(TYPE).asString();
+        } else if (document instanceof JsonObject object && object.get(TYPE) instanceof JsonString type) {
+            return type.getString();
+        } else if (document instanceof Map<?, ?> map && map.get(TYPE) instanceof String type) {
+            return type;
+        }
+        var typedMessageType = TypedMessages.typeOf(document);
+        return typedMessageType != null ? typedMessageType : "";
+    }
+
+    /**
+     * Enqueues the request and completes the future once a response is accepted. Retried responses are closed and the request is
+     * re-enqueued after the delay returned by the retry function without blocking a thread.
+     */
+    private static void enqueue(OkHttpClient client,
+                                Request request,
+                                int attempt,
+                                CompletableFuture<Response> future,
+                                BiFunction<Response, Integer, Optional<Duration>> retry,
+                                Consumer<Response> verifier) {
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(new RuntimeException(e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                var delay = retry.apply(response, attempt);
+                if (delay.isPresent()) {
+                    response.close();
+                    CompletableFuture.delayedExecutor(delay.get().toMillis(), MILLISECONDS)
+                            .execute(() -> enqueue(client, request, attempt + 1, future, retry, verifier));
+                    return;
+                }
+                RETRY_STATISTICS.recordCompletion(attempt + 1);
+                try {
+                    verifier.accept(response);
+                    future.complete(response);
+                } catch (RuntimeException | AssertionError e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the delay before retrying a rejected POST. Only unexpected client errors other than 404 are passed to the policy.
+     */
+    private static Optional<Duration> nextDelay(RetryPolicy policy, Response response, boolean expectError, int attempt) {
+        if (expectError || response.code() == 404 || response.code() < 400 || response.code() >= 500) {
+            return Optional.empty();
+        }
+        var delay = policy.nextDelay(response, attempt);
+        if (delay.isPresent()) {
+            RETRY_STATISTICS.recordRetry(delay.get());
+        } else {
+            RETRY_STATISTICS.recordDeclined();
+        }
+        return delay;
+    }
+
+    private static void verifyPostResponse(String url, Response response, boolean expectError) {
+        if (404 == response.code()) {
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful()) {
+            if (response.code() < 400 || response.code() >= 500 || !expectError) {
+                throw new AssertionError("Unexpected response code: " + response.code());
+            }
+        } else if (expectError) {
+            throw new AssertionError("Expected to throw an error on request: " + url);
+        }
+    }
+
+    private static void verifyGetResponse(String url, Response response, boolean expectError) {
+        if (404 == response.code() && !expectError) {
+            throw new AssertionError("Unexpected 404 received for request: " + url);
+        } else if (!response.isSuccessful() && !expectError) {
+            throw new AssertionError("Unexpected response code: " + response.code());
+        }
+    }
+
+    /**
+     * Returns a client for GET requests bound to the given interceptor, or to the registered authorization if it is null. The
+     * client revalidates responses against the registered cache.
+     */
+    private static OkHttpClient createCachingClient(@Nullable Interceptor interceptor) {
+        var authorization = interceptor != null ? interceptor : AUTHORIZATION_INTERCEPTOR;
+        var cache = responseCache;
+        if (cache == null) {
+            return createClient(authorization);
+        }
+        return httpClient.newBuilder()
+                .addInterceptor(cache)
+                .addInterceptor(authorization)
+                .eventListenerFactory(WIRE_TIMING_FACTORY)
+                .build();
+    }
+
+    /**
+     * Returns a client bound to the given interceptor. The returned client shares the connection pool and dispatcher of the registered client.
+     */
+    private static OkHttpClient createClient(Interceptor interceptor) {
+        return httpClient.newBuilder()
+                .addInterceptor(interceptor)
+                .eventListenerFactory(WIRE_TIMING_FACTORY)
+                .build();
+    }
 }
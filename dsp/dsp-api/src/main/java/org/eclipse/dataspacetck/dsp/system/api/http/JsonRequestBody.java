@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.writeMessage;
+
+/**
+ * Writes a JSON document as the request body. The document is encoded once, when the request is first sent, into an okio buffer
+ * made of pooled segments, so that the request carries a {@code Content-Length} header instead of chunked transfer encoding.
+ * Writing the body hands full segments to the sink without copying them, and retried requests reuse the encoded buffer. The cost
+ * of the {@code Content-Length} is that the encoded body is held until the request is released.
+ */
+class JsonRequestBody extends RequestBody {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private final Object document;
+    private Buffer encoded;
+
+    JsonRequestBody(Object document) {
+        this.document = document;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return encoded().size();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        var buffer = encoded();
+        buffer.copyTo(sink.getBuffer(), 0, buffer.size());
+        sink.emitCompleteSegments();
+    }
+
+    private synchronized Buffer encoded() throws IOException {
+        if (encoded == null) {
+            var buffer = new Buffer();
+            writeMessage(document, buffer.outputStream());
+            encoded = buffer;
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches GET responses that carry an {@code ETag} or {@code Last-Modified} validator. Every fetch still reaches the connector: the
+ * cache only adds conditional headers and, on {@code 304 Not Modified}, replays the cached body as a {@code 200} response. Parsed
+ * results are cached per URL and validator, so an unchanged body is parsed once. Bodies larger than the per-entry limit are passed
+ * through without being buffered or cached.
+ */
+public class ResponseCache implements Interceptor {
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final int maxParsedEntries;
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Map<String, Object>> parsed;
+    private long totalBytes;
+
+    /**
+     * Creates a cache holding at most {@code maxBytes} of response bodies, none larger than {@code maxEntryBytes}, and
+     * {@code maxParsedEntries} parsed results, both evicted in least-recently-used order.
+     */
+    public ResponseCache(long maxBytes, long maxEntryBytes, int maxParsedEntries) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.maxParsedEntries = maxParsedEntries;
+        this.parsed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > ResponseCache.this.maxParsedEntries;
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        var request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+        var key = request.url().toString();
+        var cached = getResponse(key);
+        if (cached != null) {
+            var conditional = request.newBuilder();
+            if (cached.etag() != null) {
+                conditional.header("If-None-Match", cached.etag());
+            }
+            if (cached.lastModified() != null) {
+                conditional.header("If-Modified-Since", cached.lastModified());
+            }
+            request = conditional.build();
+        }
+
+        var response = chain.proceed(request);
+        if (response.code() == 304 && cached != null) {
+            response.close();
+            return response.newBuilder()
+                    .code(200)
+                    .message("OK")
+                    .headers(cached.headers())
+                    .body(ResponseBody.create(cached.body(), cached.contentType()))
+                    .build();
+        }
+        var etag = response.header("ETag");
+        var lastModified = response.header("Last-Modified");
+        if (response.code() != 200 || (etag == null && lastModified == null)) {
+            return response;
+        }
+        var body = response.body();
+        if (body.contentLength() > maxEntryBytes) {
+            return response;
+        }
+        var source = body.source();
+        if (source.request(maxEntryBytes + 1)) {
+            // too large to cache: at most one byte more than an entry is buffered and the caller reads the rest from the connection
+            return response;
+        }
+        var contentType = body.contentType();
+        var bytes = source.readByteArray();
+        putResponse(key, new CachedResponse(etag, lastModified, response.headers(), contentType, bytes));
+        return response.newBuilder()
+                .body(ResponseBody.create(bytes, contentType))
+                .build();
+    }
+
+    /**
+     * Returns a copy of the parsed result cached for the URL and validator, computing it with the parser on a miss. Results are
+     * copied so callers can modify them without affecting the cache.
+     */
+    public Map<String, Object> parsed(String url, String validator, Supplier<Map<String, Object>> parser) {
+        var key = url + " " + validator;
+        Map<String, Object> result;
+        synchronized (parsed) {
+            result = parsed.get(key);
+        }
+        if (result == null) {
+            result = parser.get();
+            synchronized (parsed) {
+                parsed.put(key, result);
+            }
+        }
+        return copy(result);
+    }
+
+    public synchronized void clear() {
+        responses.clear();
+        totalBytes = 0;
+        synchronized (parsed) {
+            parsed.clear();
+        }
+    }
+
+    @Nullable
+    private synchronized CachedResponse getResponse(String key) {
+        return responses.get(key);
+    }
+
+    private synchronized void putResponse(String key, CachedResponse response) {
+        var previous = responses.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.body().length;
+        }
+        totalBytes += response.body().length;
+        var iterator = responses.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().body().length;
+            iterator.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(T value) {
+        if (value instanceof Map<?, ?> map) {
+            var result = new LinkedHashMap<Object, Object>(map.size());
+            map.forEach((k, v) -> result.put(k, copy(v)));
+            return (T) result;
+        } else if (value instanceof List<?> list) {
+            var result = new ArrayList<>(list.size());
+            list.forEach(v -> result.add(copy(v)));
+            return (T) result;
+        }
+        return value;
+    }
+
+    private record CachedResponse(@Nullable String etag, @Nullable String lastModified, Headers headers, @Nullable MediaType contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.Response;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+/**
+ * Decides whether a rejected request is retried and how long to wait before the next attempt. Only responses that are eligible
+ * for a retry, i.e. unexpected client errors other than 404, are passed to the policy.
+ */
+@FunctionalInterface
+public interface RetryPolicy {
+
+    /**
+     * Returns the delay before the next attempt or empty if the request must not be retried.
+     *
+     * @param response the rejected response
+     * @param attempt  the zero-based number of the attempt that produced the response
+     */
+    Optional<Duration> nextDelay(Response response, int attempt);
+
+    /**
+     * Never retries.
+     */
+    static RetryPolicy none() {
+        return (response, attempt) -> Optional.empty();
+    }
+
+    /**
+     * Retries with a constant delay until the maximum number of attempts is reached.
+     */
+    static RetryPolicy fixed(int maxAttempts, Duration delay) {
+        return (response, attempt) -> attempt < maxAttempts - 1 ? Optional.of(delay) : Optional.empty();
+    }
+
+    /**
+     * Retries with a delay that doubles on each attempt. The jitter is a fraction between 0 and 1 by which each delay is randomly
+     * spread in both directions.
+     */
+    static RetryPolicy exponential(int maxAttempts, Duration initialDelay, double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1: " + jitter);
+        }
+        return (response, attempt) -> {
+            if (attempt >= maxAttempts - 1) {
+                return Optional.empty();
+            }
+            var delay = initialDelay.toMillis() << Math.min(attempt, 30);
+            var spread = (long) (delay * jitter);
+            if (spread > 0) {
+                delay += ThreadLocalRandom.current().nextLong(-spread, spread + 1);
+            }
+            return Optional.of(Duration.ofMillis(delay));
+        };
+    }
+
+    /**
+     * Honors the {@code Retry-After} header of a rejected response, capped at the given maximum. The delegate decides whether a
+     * retry happens at all and supplies the delay when the header is absent or cannot be parsed.
+     */
+    static RetryPolicy retryAfter(RetryPolicy delegate, Duration maxDelay) {
+        return (response, attempt) -> delegate.nextDelay(response, attempt)
+                .map(fallback -> parseRetryAfter(response.header("Retry-After"))
+                        .map(delay -> delay.compareTo(maxDelay) > 0 ? maxDelay : delay)
+                        .orElse(fallback));
+    }
+
+    /**
+     * Limits the total number of retries the delegate may perform across all requests of a run.
+     */
+    static RetryPolicy budget(RetryPolicy delegate, int maxRetries) {
+        var remaining = new AtomicInteger(maxRetries);
+        return (response, attempt) -> delegate.nextDelay(response, attempt)
+                .filter(delay -> remaining.getAndUpdate(value -> value > 0 ? value - 1 : 0) > 0);
+    }
+
+    private static Optional<Duration> parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                var delay = Duration.between(Instant.now(), ZonedDateTime.parse(value.trim(), RFC_1123_DATE_TIME).toInstant());
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
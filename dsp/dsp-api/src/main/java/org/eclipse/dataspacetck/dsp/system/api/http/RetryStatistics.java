@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts HTTP request attempts and the retries performed by the active {@link RetryPolicy}.
+ */
+public class RetryStatistics {
+    private final Map<Integer, LongAdder> completions = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder declined = new LongAdder();
+    private final LongAdder delayMillis = new LongAdder();
+
+    /**
+     * Returns the number of requests keyed by the number of attempts they took to complete.
+     */
+    public Map<Integer, Long> getCompletionsByAttempts() {
+        var result = new TreeMap<Integer, Long>();
+        completions.forEach((attempts, count) -> result.put(attempts, count.sum()));
+        return result;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of retryable responses the policy refused to retry.
+     */
+    public long getDeclined() {
+        return declined.sum();
+    }
+
+    public Duration getTotalDelay() {
+        return Duration.ofMillis(delayMillis.sum());
+    }
+
+    public void reset() {
+        completions.clear();
+        retries.reset();
+        declined.reset();
+        delayMillis.reset();
+    }
+
+    void recordCompletion(int attempts) {
+        completions.computeIfAbsent(attempts, k -> new LongAdder()).increment();
+    }
+
+    void recordRetry(Duration delay) {
+        retries.increment();
+        delayMillis.add(delay.toMillis());
+    }
+
+    void recordDeclined() {
+        declined.increment();
+    }
+}
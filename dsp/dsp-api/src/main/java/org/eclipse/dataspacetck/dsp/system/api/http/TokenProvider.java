@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Mints authorization header values for requests to the connector under test. Implementations may be expensive; wrap them in a
+ * {@link CachingTokenProvider} before registering them with {@link HttpFunctions#registerAuthorizationInterceptor(java.util.function.Supplier)}.
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+    Token getToken();
+
+    /**
+     * An authorization header value and the instant it expires. A null expiry means the caching provider's default TTL applies.
+     */
+    record Token(String value, @Nullable Instant expiresAt) {
+    }
+}
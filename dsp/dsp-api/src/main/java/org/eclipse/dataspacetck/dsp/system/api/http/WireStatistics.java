@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Aggregates the wire timings of HTTP exchanges per {@link ExchangeTag}.
+ */
+public class WireStatistics {
+    /**
+     * Upper bounds in milliseconds of the latency histogram buckets. Exchanges slower than the last bound fall into an overflow bucket.
+     */
+    public static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final Map<ExchangeTag, EndpointStatistics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics of all endpoints, sorted by path template, method and message type.
+     */
+    public Map<ExchangeTag, EndpointStatistics> getEndpoints() {
+        var result = new TreeMap<ExchangeTag, EndpointStatistics>(comparing(ExchangeTag::pathTemplate)
+                .thenComparing(ExchangeTag::method)
+                .thenComparing(ExchangeTag::messageType));
+        result.putAll(endpoints);
+        return result;
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    void record(ExchangeTag tag, ExchangeTimings timings) {
+        endpoints.computeIfAbsent(tag, k -> new EndpointStatistics()).record(timings);
+    }
+
+    /**
+     * The durations in nanoseconds of the phases of a single exchange. Phases that did not occur, e.g. DNS lookup and connect on a
+     * pooled connection, are zero. The queue time of asynchronous calls is not part of the total.
+     */
+    record ExchangeTimings(long queue, long dns, long connect, long tls, long requestWrite, long timeToFirstByte, long bodyRead, long total, boolean failed) {
+    }
+
+    /**
+     * Latency histogram and accumulated phase durations of one endpoint.
+     */
+    public static class EndpointStatistics {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder queue = new LongAdder();
+        private final LongAdder dns = new LongAdder();
+        private final LongAdder connect = new LongAdder();
+        private final LongAdder tls = new LongAdder();
+        private final LongAdder requestWrite = new LongAdder();
+        private final LongAdder timeToFirstByte = new LongAdder();
+        private final LongAdder bodyRead = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        EndpointStatistics() {
+            for (var i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Returns the number of exchanges per histogram bucket, aligned with {@link #BUCKET_BOUNDS_MILLIS} plus a trailing overflow bucket.
+         */
+        public long[] getHistogram() {
+            var result = new long[buckets.length];
+            for (var i = 0; i < buckets.length; i++) {
+                result[i] = buckets[i].sum();
+            }
+            return result;
+        }
+
+        /**
+         * Returns the mean time asynchronous calls waited for a dispatcher thread before the exchange started.
+         */
+        public double getMeanQueueMillis() {
+            return mean(queue);
+        }
+
+        public double getMeanDnsMillis() {
+            return mean(dns);
+        }
+
+        public double getMeanConnectMillis() {
+            return mean(connect);
+        }
+
+        public double getMeanTlsMillis() {
+            return mean(tls);
+        }
+
+        public double getMeanRequestWriteMillis() {
+            return mean(requestWrite);
+        }
+
+        public double getMeanTimeToFirstByteMillis() {
+            return mean(timeToFirstByte);
+        }
+
+        public double getMeanBodyReadMillis() {
+            return mean(bodyRead);
+        }
+
+        public double getMeanTotalMillis() {
+            return mean(total);
+        }
+
+        void record(ExchangeTimings timings) {
+            count.increment();
+            if (timings.failed()) {
+                failures.increment();
+            }
+            queue.add(timings.queue());
+            dns.add(timings.dns());
+            connect.add(timings.connect());
+            tls.add(timings.tls());
+            requestWrite.add(timings.requestWrite());
+            timeToFirstByte.add(timings.timeToFirstByte());
+            bodyRead.add(timings.bodyRead());
+            total.add(timings.total());
+            buckets[bucket(timings.total() / 1_000_000)].increment();
+        }
+
+        private int bucket(long millis) {
+            for (var i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (millis <= BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_BOUNDS_MILLIS.length;
+        }
+
+        private double mean(LongAdder nanos) {
+            var n = count.sum();
+            return n == 0 ? 0 : nanos.sum() / 1_000_000.0 / n;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * Records the phase timings of a single call and reports them to {@link WireStatistics} when the call ends. Calls without an
+ * {@link ExchangeTag} are ignored.
+ * <p>
+ * Asynchronous calls start when they are enqueued, which may be long before the dispatcher runs them. The exchange is therefore
+ * timed from the first network event, and the time spent waiting in the dispatcher queue is reported separately.
+ */
+class WireTimingListener extends EventListener {
+    private final WireStatistics statistics;
+    private long callStart;
+    private long exchangeStart;
+    private long dnsStart;
+    private long dns;
+    private long connectStart;
+    private long connect;
+    private long tlsStart;
+    private long tls;
+    private long requestStart;
+    private long requestEnd;
+    private long responseStart;
+    private long bodyStart;
+    private long bodyRead;
+
+    WireTimingListener(WireStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    static EventListener.Factory factory(WireStatistics statistics) {
+        return call -> call.request().tag(ExchangeTag.class) != null ? new WireTimingListener(statistics) : EventListener.NONE;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        exchangeStarted();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        exchangeStarted();
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        dns += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        exchangeStarted();
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, @Nullable Protocol protocol) {
+        connect += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        exchangeStarted();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, @Nullable Handshake handshake) {
+        tls += System.nanoTime() - tlsStart;
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        responseStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        if (responseStart == 0) {
+            responseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        bodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        bodyRead = System.nanoTime() - bodyStart;
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        record(call, false);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        record(call, true);
+    }
+
+    private void exchangeStarted() {
+        if (exchangeStart == 0) {
+            exchangeStart = System.nanoTime();
+        }
+    }
+
+    private void record(Call call, boolean failed) {
+        var tag = call.request().tag(ExchangeTag.class);
+        if (tag == null) {
+            return;
+        }
+        var now = System.nanoTime();
+        // calls that fail before reaching the network have no exchange; their whole duration counts as queue time
+        var start = exchangeStart != 0 ? exchangeStart : now;
+        var requestWrite = requestEnd > requestStart ? requestEnd - requestStart : 0;
+        var timeToFirstByte = responseStart > requestEnd && requestEnd > 0 ? responseStart - requestEnd : 0;
+        var timings = new WireStatistics.ExchangeTimings(start - callStart, dns, connect, tls, requestWrite, timeToFirstByte, bodyRead,
+                now - start, failed);
+        statistics.record(tag, timings);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Skips JSON-LD compaction for message shapes that are already in compact form. The TCK builds its messages with compact terms
+ * against the DSP context, so compaction usually returns its input unchanged. The first message of each shape is compacted and
+ * compared with its input; shapes that compact to themselves are recorded as templates and later messages with the same shape are
+ * returned as they are.
+ * <p>
+ * A shape covers the structure of a message and all of its values except the opaque identifiers and literals listed in
+ * {@link #VARIABLE_KEYS}, of which only the namespace is kept. Since that list is maintained by hand, templates are disabled by
+ * default. In shadow mode, every n-th templated message is still compacted; a divergence demotes the template and the compacted
+ * result is returned.
+ */
+class CompactionTemplates {
+    private static final int MAX_TEMPLATES = 1024;
+    private static final Set<String> VARIABLE_KEYS = Set.of("@id", "consumerPid", "providerPid", "callbackAddress", "agreementId", "dataset",
+            "target", "assigner", "assignee", "timestamp", "code", "message", "endpoint");
+
+    private final Map<String, Boolean> templates = new ConcurrentHashMap<>();
+    private final AtomicLong templated = new AtomicLong();
+    private final AtomicLong divergences = new AtomicLong();
+    private volatile boolean enabled;
+    private volatile int shadowSampleRate;
+
+    /**
+     * Applies the settings. Recorded templates are only discarded if the settings change.
+     */
+    synchronized void configure(boolean enabled, int shadowSampleRate) {
+        if (shadowSampleRate < 0) {
+            throw new IllegalArgumentException("Shadow sample rate must not be negative: " + shadowSampleRate);
+        }
+        if (enabled == this.enabled && shadowSampleRate == this.shadowSampleRate) {
+            return;
+        }
+        this.enabled = enabled;
+        this.shadowSampleRate = shadowSampleRate;
+        templates.clear();
+        divergences.set(0);
+    }
+
+    /**
+     * Returns whether templates are enabled. Callers skip building the tree a shape is computed from when they are not.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the compact form of the message, invoking the compactor only for shapes without a template or for shadow samples.
+     */
+    JsonNode compact(JsonNode message, UnaryOperator<JsonNode> compactor) {
+        if (!enabled) {
+            return compactor.apply(message);
+        }
+        var signature = signature(message);
+        var template = templates.get(signature);
+        if (template == null) {
+            var compacted = compactor.apply(message);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.put(signature, compacted.equals(message));
+            }
+            return compacted;
+        } else if (!template) {
+            return compactor.apply(message);
+        }
+
+        var rate = shadowSampleRate;
+        if (rate > 0 && templated.incrementAndGet() % rate == 0) {
+            var compacted = compactor.apply(message);
+            if (!compacted.equals(message)) {
+                divergences.incrementAndGet();
+                templates.put(signature, false);
+                return compacted;
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Returns the number of shadow samples whose compacted form differed from the template.
+     */
+    long getDivergences() {
+        return divergences.get();
+    }
+
+    static String signature(JsonNode message) {
+        var builder = new StringBuilder(256);
+        appendSignature(builder, null, message);
+        return builder.toString();
+    }
+
+    private static void appendSignature(StringBuilder builder, String key, JsonNode value) {
+        switch (value.getNodeType()) {
+            case OBJECT -> {
+                builder.append('{');
+                for (var property : value.properties()) {
+                    builder.append(property.getKey()).append(':');
+                    appendSignature(builder, property.getKey(), property.getValue());
+                    builder.append(',');
+                }
+                builder.append('}');
+            }
+            case ARRAY -> {
+                builder.append('[');
+                for (var i = 0; i < value.size(); i++) {
+                    appendSignature(builder, key, value.get(i));
+                    builder.append(',');
+                }
+                builder.append(']');
+            }
+            case STRING -> {
+                if (key != null && VARIABLE_KEYS.contains(key)) {
+                    builder.append('$').append(namespace(value.stringValue()));
+                } else {
+                    builder.append(value);
+                }
+            }
+            default -> builder.append(value);
+        }
+    }
+
+    /**
+     * Returns the part of the value up to its last IRI delimiter, which is what compacting an identifier to a prefixed form depends on.
+     */
+    private static String namespace(String value) {
+        var index = Math.max(value.lastIndexOf('/'), Math.max(value.lastIndexOf('#'), value.lastIndexOf(':')));
+        return index < 0 ? "" : value.substring(0, index + 1);
+    }
+}
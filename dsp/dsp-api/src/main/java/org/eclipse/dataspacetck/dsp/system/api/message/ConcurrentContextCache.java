@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import com.apicatalog.jsonld.context.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe Titanium cache. The default {@code LruCache} is not safe for concurrent use, which is why each message used to get
+ * its own options and caches. The set of contexts the TCK resolves is small and fixed, so the cache is unbounded.
+ */
+class ConcurrentContextCache<K, V> implements Cache<K, V> {
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Holds the JSON-LD documents the document loader resolves. Documents registered from files are parsed on first use from a
+ * memory-mapped view of the file. If the binary cache is enabled, the parsed tree is also written next to the file and read back
+ * on later runs as long as the size and modification time of the file are unchanged. Registration and lookup are thread-safe.
+ */
+class ContextStore {
+    private static final String CACHE_SUFFIX = ".tckcache";
+    private static final int CACHE_MAGIC = 0x44535043;
+    private static final int CACHE_VERSION = 1;
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_NUMBER = 4;
+    private static final byte TAG_ARRAY = 5;
+    private static final byte TAG_OBJECT = 6;
+
+    private final Map<URI, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean binaryCache;
+
+    void setBinaryCache(boolean enabled) {
+        this.binaryCache = enabled;
+    }
+
+    void register(URI uri, Document document) {
+        entries.put(uri, new Entry(() -> document));
+    }
+
+    /**
+     * Registers a file that is parsed the first time the document is resolved.
+     */
+    void register(URI uri, Path path) {
+        entries.put(uri, new Entry(() -> load(path)));
+    }
+
+    @Nullable
+    Document get(URI uri) {
+        var entry = entries.get(uri);
+        return entry == null ? null : entry.get();
+    }
+
+    private Document load(Path path) {
+        try (var channel = FileChannel.open(path, READ)) {
+            var size = channel.size();
+            var modified = Files.getLastModifiedTime(path).toMillis();
+            var cache = binaryCache ? path.resolveSibling(path.getFileName() + CACHE_SUFFIX) : null;
+            if (cache != null) {
+                var cached = readCache(cache, size, modified);
+                if (cached != null) {
+                    return JsonDocument.of(cached);
+                }
+            }
+            JsonStructure json;
+            try (var reader = Json.createReader(new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)))) {
+                json = reader.read();
+            }
+            if (cache != null) {
+                writeCache(cache, size, modified, json);
+            }
+            return JsonDocument.of(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read JSON-LD context: " + path, e);
+        }
+    }
+
+    @Nullable
+    private static JsonStructure readCache(Path cache, long size, long modified) {
+        if (!Files.isReadable(cache)) {
+            return null;
+        }
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache)))) {
+            if (input.readInt() != CACHE_MAGIC || input.readInt() != CACHE_VERSION || input.readLong() != size || input.readLong() != modified) {
+                return null;
+            }
+            return (JsonStructure) readValue(input, Files.size(cache));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the cache through a temporary file so that concurrent runs never read a partial cache. Failures are ignored, for
+     * example when the directory of the context is read-only.
+     */
+    private static void writeCache(Path cache, long size, long modified, JsonStructure json) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(cache.getParent(), cache.getFileName().toString(), ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(CACHE_MAGIC);
+                output.writeInt(CACHE_VERSION);
+                output.writeLong(size);
+                output.writeLong(modified);
+                writeValue(output, json);
+            }
+            Files.move(temp, cache, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // the cache is an optimization only
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, JsonValue value) throws IOException {
+        switch (value.getValueType()) {
+            case NULL -> output.writeByte(TAG_NULL);
+            case TRUE -> output.writeByte(TAG_TRUE);
+            case FALSE -> output.writeByte(TAG_FALSE);
+            case STRING -> {
+                output.writeByte(TAG_STRING);
+                writeString(output, ((JsonString) value).getString());
+            }
+            case NUMBER -> {
+                output.writeByte(TAG_NUMBER);
+                writeString(output, ((JsonNumber) value).bigDecimalValue().toString());
+            }
+            case ARRAY -> {
+                var array = value.asJsonArray();
+                output.writeByte(TAG_ARRAY);
+                output.writeInt(array.size());
+                for (var element : array) {
+                    writeValue(output, element);
+                }
+            }
+            case OBJECT -> {
+                var object = value.asJsonObject();
+                output.writeByte(TAG_OBJECT);
+                output.writeInt(object.size());
+                for (var property : object.entrySet()) {
+                    writeString(output, property.getKey());
+                    writeValue(output, property.getValue());
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported JSON value: " + value.getValueType());
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue(DataOutputStream, JsonValue)}. No string can be longer than the cache file, so
+     * a corrupt length fails before anything is allocated for it.
+     */
+    private static JsonValue readValue(DataInputStream input, long limit) throws IOException {
+        var tag = input.readByte();
+        return switch (tag) {
+            case TAG_NULL -> JsonValue.NULL;
+            case TAG_TRUE -> JsonValue.TRUE;
+            case TAG_FALSE -> JsonValue.FALSE;
+            case TAG_STRING -> Json.createValue(readString(input, limit));
+            case TAG_NUMBER -> Json.createValue(new BigDecimal(readString(input, limit)));
+            case TAG_ARRAY -> {
+                var size = input.readInt();
+                var builder = Json.createArrayBuilder();
+                for (var i = 0; i < size; i++) {
+                    builder.add(readValue(input, limit));
+                }
+                yield builder.build();
+            }
+            case TAG_OBJECT -> {
+                var size = input.readInt();
+                var builder = Json.createObjectBuilder();
+                for (var i = 0; i < size; i++) {
+                    builder.add(readString(input, limit), readValue(input, limit));
+                }
+                yield builder.build();
+            }
+            default -> throw new IOException("Corrupt context cache, unknown tag: " + tag);
+        };
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        var bytes = value.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input, long limit) throws IOException {
+        var length = input.readInt();
+        if (length < 0 || length > limit) {
+            throw new IOException("Corrupt context cache, invalid string length: " + length);
+        }
+        var bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Parses a document once, on first use. Later registrations for the same URI replace the entry rather than the document.
+     */
+    private static final class Entry {
+        private final Supplier<Document> loader;
+        private volatile Document document;
+
+        private Entry(Supplier<Document> loader) {
+            this.loader = loader;
+        }
+
+        Document get() {
+            var result = document;
+            if (result == null) {
+                synchronized (this) {
+                    result = document;
+                    if (result == null) {
+                        result = loader.get();
+                        document = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            var count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
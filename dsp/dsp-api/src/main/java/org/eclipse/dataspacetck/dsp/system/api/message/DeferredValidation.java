@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Moves schema validation off the message path. While deferred validation is enabled and a {@link Scope} is current, messages are
+ * validated on a background pool and violations are collected by the scope; closing the scope waits for pending validations and
+ * fails with all violations. A scope is current on the thread that opened it and inside {@link Scope#call(Supplier)}, which
+ * callback handlers use to charge the messages they receive to the scope of the pipeline that registered them. Messages handled
+ * without a current scope are validated synchronously.
+ */
+public final class DeferredValidation {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+    private static volatile boolean enabled;
+
+    private DeferredValidation() {
+    }
+
+    /**
+     * Enables deferred validation with the given number of validator threads, or disables it. The pool is shared and only resized,
+     * so validations submitted concurrently and pending validations of open scopes still complete.
+     */
+    public static synchronized void configure(boolean enabled, int threads) {
+        if (enabled) {
+            var size = Math.max(1, threads);
+            if (size > EXECUTOR.getMaximumPoolSize()) {
+                EXECUTOR.setMaximumPoolSize(size);
+                EXECUTOR.setCorePoolSize(size);
+            } else {
+                EXECUTOR.setCorePoolSize(size);
+                EXECUTOR.setMaximumPoolSize(size);
+            }
+        }
+        DeferredValidation.enabled = enabled;
+    }
+
+    /**
+     * Returns true if messages may be validated on the pool, in which case parsing an invalid message does not fail.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a validation scope for the current thread. The returned scope is a no-op if deferred validation is disabled.
+     */
+    public static Scope open() {
+        var scope = new Scope(enabled);
+        if (scope.active) {
+            CURRENT.set(scope);
+        }
+        return scope;
+    }
+
+    /**
+     * Runs the validation now or on the validator pool. Returns false if it must run synchronously because no open scope is current.
+     */
+    static boolean submit(String type, Supplier<List<String>> validation) {
+        var current = CURRENT.get();
+        return enabled && current != null && current.track(type, validation);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        var executor = new ThreadPoolExecutor(1, 1, 60, SECONDS, new LinkedBlockingQueue<>(), new ValidatorThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Collects the violations of the messages validated while it is current.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final boolean active;
+        private final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+        private boolean closed;
+
+        private Scope(boolean active) {
+            this.active = active;
+        }
+
+        /**
+         * Runs the work with this scope current on the calling thread, typically a callback thread handling a message for the
+         * pipeline that opened the scope. Messages handled after the scope is closed are validated synchronously.
+         */
+        public <T> T call(Supplier<T> work) {
+            if (!active) {
+                return work.get();
+            }
+            var previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return work.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+
+        /**
+         * Waits for pending validations and throws an {@link AssertionError} listing all violations.
+         */
+        @Override
+        public void close() {
+            if (!active) {
+                return;
+            }
+            synchronized (this) {
+                closed = true;
+            }
+            try {
+                CompletableFuture<?> next;
+                while ((next = pending.poll()) != null) {
+                    next.join();
+                }
+            } finally {
+                if (CURRENT.get() == this) {
+                    CURRENT.remove();
+                }
+            }
+            if (!violations.isEmpty()) {
+                throw new AssertionError(String.join("\n", new ArrayList<>(violations)));
+            }
+        }
+
+        private synchronized boolean track(String type, Supplier<List<String>> validation) {
+            if (closed) {
+                return false;
+            }
+            pending.add(CompletableFuture.supplyAsync(validation, EXECUTOR).handle((result, failure) -> {
+                if (failure != null) {
+                    return List.of("validation failed: " + failure.getMessage());
+                }
+                return result == null ? List.<String>of() : result;
+            }).thenAccept(result -> {
+                if (!result.isEmpty()) {
+                    violations.add("Invalid message " + type + ": " + result);
+                }
+            }));
+            return true;
+        }
+    }
+
+    private static class ValidatorThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "tck-validator-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -77,27 +77,7 @@ public class JsonLdFunctions {
     }
 
     public static String stringProperty(String key, String valKey, Map<String, Object> map, boolean optional) {
-        var untypedValue = map.get(key);
-        if (untypedValue == null) {
-            if (optional) {
-                return null;
-            }
-            throw new AssertionError(format("Property '%s' was not found", key));
-        }
-        //noinspection rawtypes
-        if (untypedValue instanceof List valueList) {
-            if (valueList.isEmpty()) {
-                throw new AssertionError(format("Property '%s' was empty", key));
-            }
-            @SuppressWarnings("SequencedCollectionMethodCanBeUsed")
-            var valueContainer = valueList.get(0);
-            if (valueContainer instanceof Map) {
-                @SuppressWarnings("rawtypes")
-                var value = requireNonNull(((Map) valueContainer).get(valKey), format("No %s attribute for property: %s", valKey, key));
-                return value.toString();
-            }
-        }
-        throw new AssertionError(format("Property '%s' was not in expanded @value form", key));
+        return PropertyExtractor.unwrap(key, valKey, map.get(key), optional);
     }
 
     public static String identityProperty(String key, Map<String, Object> map) {
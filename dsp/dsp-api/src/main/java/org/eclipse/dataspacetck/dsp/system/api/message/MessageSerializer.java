@@ -20,23 +20,34 @@ import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import org.eclipse.dataspacetck.core.api.message.MessageValidator;
+import org.eclipse.dataspacetck.dsp.system.api.message.typed.TypedMessages;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
-import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.datatype.jsonp.JSONPModule;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
-import java.util.HashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -45,7 +56,6 @@ import static com.apicatalog.jsonld.JsonLd.compact;
 import static com.apicatalog.jsonld.JsonLd.expand;
 import static com.apicatalog.jsonld.lang.Keywords.CONTEXT;
 import static com.apicatalog.jsonld.lang.Keywords.TYPE;
-import static java.util.Collections.emptyList;
 
 /**
  * Provides a configured {@link ObjectMapper} for serializing and deserializing JSON-LD messages.
@@ -57,19 +67,29 @@ public class MessageSerializer {
             .add(CONTEXT, Json.createArrayBuilder().add("https://w3id.org/dspace/2025/1/context.jsonld"))
             .build());
     public static final ObjectMapper MAPPER;
-    private static final Map<URI, Document> CONTEXTS;
+    public static final long DEFAULT_MAX_MESSAGE_SIZE = 32 * 1024 * 1024;
+    private static final ContextStore CONTEXTS = new ContextStore();
+    private static final ConcurrentContextCache<String, JsonValue> CONTEXT_CACHE = new ConcurrentContextCache<>();
+    private static final ConcurrentContextCache<String, Document> DOCUMENT_CACHE = new ConcurrentContextCache<>();
+    private static final JsonLdOptions OPTIONS = createOptions();
+    private static final CompactionTemplates TEMPLATES = new CompactionTemplates();
+    private static final ObjectWriter STREAM_WRITER;
     private static final Map<String, MessageValidator> VALIDATORS = new ConcurrentHashMap<>();
     private static final Pattern JSONLD_PREFIX_REGEX = Pattern.compile("dataspacetck\\.dsp\\.jsonld\\.context\\.(\\w*)");
     private static final String JSONLD_PREFIX = "dataspacetck.dsp.jsonld.context.";
+    private static final String MAX_MESSAGE_SIZE_PROPERTY = "dataspacetck.dsp.message.max.size";
+    private static final String JSONLD_CACHE_PROPERTY = "dataspacetck.dsp.jsonld.cache";
+    private static volatile long maxMessageSize = Long.getLong(MAX_MESSAGE_SIZE_PROPERTY, DEFAULT_MAX_MESSAGE_SIZE);
 
     static {
         MAPPER = JsonMapper.builder()
                 .addModule(new JSONPModule())
-                .addModule(new SimpleModule())
+                .addModule(TypedMessages.module())
                 .build();
-        CONTEXTS = new HashMap<>();
+        STREAM_WRITER = MAPPER.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
         registerDocument(URI.create("https://w3id.org/dspace/2025/1/context.jsonld"), "dsp-2025-1.jsonld");
         registerDocument(URI.create("https://w3id.org/dspace/2025/1/odrl-profile.jsonld"), "dsp-2025-1-odrl-profile.jsonld");
+        CONTEXTS.setBinaryCache(Boolean.getBoolean(JSONLD_CACHE_PROPERTY));
         loadCustomContexts();
     }
 
@@ -80,17 +100,73 @@ public class MessageSerializer {
         VALIDATORS.put(type, validator);
     }
 
+    /**
+     * Sets the maximum number of bytes read from a message stream before parsing is aborted.
+     */
+    public static void setMaxMessageSize(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Maximum message size must be positive: " + size);
+        }
+        maxMessageSize = size;
+    }
+
+    /**
+     * Enables or disables skipping compaction for message shapes already in compact form, which is disabled by default. A positive
+     * shadow sample rate still compacts every n-th such message and falls back to the compacted form if it differs.
+     */
+    public static void setCompactionTemplates(boolean enabled, int shadowSampleRate) {
+        TEMPLATES.configure(enabled, shadowSampleRate);
+    }
+
+    /**
+     * Returns the number of shadow samples whose compacted form differed from the message.
+     */
+    public static long getCompactionDivergences() {
+        return TEMPLATES.getDivergences();
+    }
+
     public static String serialize(Object object) {
-        try {
-            var options = new JsonLdOptions((uri, documentLoaderOptions) -> CONTEXTS.get(uri));
-            var compacted = compact(JsonDocument.of(MAPPER.convertValue(object, JsonObject.class)), COMPACT_CONTEXT)
-                    .options(options)
-                    .get();
+        return MAPPER.writeValueAsString(compactMessage(object));
+    }
+
+    /**
+     * Compacts the message against the DSP context and validates it. The result can be written with
+     * {@link #writeMessage(Object, OutputStream)}.
+     * <p>
+     * By default, a message map is converted once to JSON-P and the compacted JSON-P document is returned as is; it is only
+     * converted to a Jackson tree if a validator is registered for its type. With compaction templates enabled, the message is
+     * materialized once as a Jackson tree, which the shape of the message is computed from, and converted to JSON-P only when
+     * compaction actually runs.
+     * <p>
+     * Typed messages are returned as they are, since their serializers write the compact form. They are only materialized as a
+     * tree if a validator is registered for their type.
+     */
+    public static Object compactMessage(Object object) {
+        var typedMessageType = TypedMessages.typeOf(object);
+        if (typedMessageType != null) {
+            if (VALIDATORS.containsKey(typedMessageType)) {
+                validateMessage((JsonNode) MAPPER.valueToTree(object));
+            }
+            return object;
+        }
+        if (TEMPLATES.isEnabled()) {
+            var compacted = TEMPLATES.compact(object instanceof JsonNode node ? node : MAPPER.valueToTree(object), MessageSerializer::compactDocument);
             validateMessage(compacted);
+            return compacted;
+        }
+        var compacted = compactDocument(toJsonObject(object));
+        validateMessage(compacted);
+        return compacted;
+    }
 
-            return MAPPER.writeValueAsString(compacted);
-        } catch (JsonLdError e) {
-            throw new RuntimeException(e);
+    /**
+     * Writes the document as JSON directly to the stream without materializing it as a string. The stream is flushed but not closed.
+     */
+    public static void writeMessage(Object document, OutputStream stream) throws IOException {
+        try {
+            STREAM_WRITER.writeValue(stream, document);
+        } catch (JacksonException e) {
+            throw new IOException(e);
         }
     }
 
@@ -110,8 +186,12 @@ public class MessageSerializer {
         }
     }
 
+    /**
+     * Parses the stream directly into a JSON-P structure and expands it. Parsing fails as soon as the stream exceeds the
+     * configured maximum message size.
+     */
     public static Map<String, Object> expandAndDeserialize(InputStream stream) {
-        return expandAndDeserialize(deserialize(stream, JsonObject.class));
+        return expandAndDeserialize(readJsonObject(stream));
     }
 
     public static Map<String, Object> expandAndDeserialize(Map<String, Object> message) {
@@ -123,29 +203,111 @@ public class MessageSerializer {
         try {
             validateMessage(document);
 
-            var options = new JsonLdOptions((uri, documentLoaderOptions) -> CONTEXTS.get(uri));
-            var jsonArray = expand(JsonDocument.of(document)).options(options).get();
+            var jsonArray = expand(JsonDocument.of(document)).options(OPTIONS).get();
             if (jsonArray.isEmpty()) {
                 throw new AssertionError("Invalid Json document, expecting a non-empty array");
             }
-            var expanded = jsonArray.get(0);
-            return MAPPER.convertValue(expanded, Map.class);
+            return (Map<String, Object>) toJava(jsonArray.get(0));
         } catch (JsonLdError e) {
             throw new AssertionError("Cannot expand json-ld document: " + e.getMessage(), e);
         }
     }
 
+    static JsonNode compactDocument(JsonNode document) {
+        return MAPPER.valueToTree(compactDocument(MAPPER.convertValue(document, JsonObject.class)));
+    }
+
+    private static JsonObject compactDocument(JsonObject document) {
+        try {
+            return compact(JsonDocument.of(document), COMPACT_CONTEXT).options(OPTIONS).get();
+        } catch (JsonLdError e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonObject toJsonObject(Object message) {
+        if (message instanceof JsonObject object) {
+            return object;
+        } else if (message instanceof Map<?, ?> map) {
+            return Json.createObjectBuilder((Map<String, Object>) map).build();
+        }
+        return MAPPER.convertValue(message, JsonObject.class);
+    }
+
+    private static JsonObject readJsonObject(InputStream stream) {
+        var limit = maxMessageSize;
+        try (var reader = Json.createReader(new BoundedInputStream(stream, limit))) {
+            return reader.readObject();
+        } catch (JsonException e) {
+            if (e.getCause() instanceof MessageSizeExceededException) {
+                throw new AssertionError("Message exceeds the maximum size of " + limit + " bytes");
+            }
+            throw new AssertionError("Cannot deserialize json: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converts a JSON-P value to plain Java types without an intermediate Jackson buffer.
+     */
+    private static Object toJava(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> {
+                var object = (JsonObject) value;
+                var map = new LinkedHashMap<String, Object>(object.size());
+                object.forEach((key, entry) -> map.put(key, toJava(entry)));
+                yield map;
+            }
+            case ARRAY -> {
+                var array = (JsonArray) value;
+                List<Object> list = new ArrayList<>(array.size());
+                array.forEach(entry -> list.add(toJava(entry)));
+                yield list;
+            }
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> toNumber((JsonNumber) value);
+            case TRUE -> true;
+            case FALSE -> false;
+            case NULL -> null;
+        };
+    }
+
+    private static Number toNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.doubleValue();
+        }
+        var value = number.bigIntegerValue();
+        if (value.bitLength() < 32) {
+            return value.intValue();
+        }
+        return value.bitLength() < 64 ? value.longValue() : value;
+    }
+
     private static void validateMessage(JsonObject document) {
         if (!document.containsKey(TYPE)) {
             throw new AssertionError("Invalid JsonLd Document, expecting a @type attribute");
         }
+        var type = document.getString(TYPE);
+        var validator = VALIDATORS.get(type);
+        if (validator != null && !DeferredValidation.submit(type, () -> validator.validate(MAPPER.convertValue(document, JsonNode.class)))) {
+            validateMessage(validator, MAPPER.convertValue(document, JsonNode.class));
+        }
+    }
 
-        var result = Optional.of(document.getString(TYPE))
-                .map(VALIDATORS::get)
-                .map(validator -> validator.validate(MAPPER.convertValue(document, JsonNode.class)))
-                .orElse(emptyList());
+    private static void validateMessage(JsonNode document) {
+        var type = document.get(TYPE);
+        if (type == null) {
+            throw new AssertionError("Invalid JsonLd Document, expecting a @type attribute");
+        }
+        var validator = VALIDATORS.get(type.asString());
+        if (validator != null && !DeferredValidation.submit(type.asString(), () -> validator.validate(document))) {
+            validateMessage(validator, document);
+        }
+    }
 
-        if (!result.isEmpty()) {
+    private static void validateMessage(MessageValidator validator, JsonNode document) {
+        var result = validator.validate(document);
+        if (result != null && !result.isEmpty()) {
             throw new AssertionError("Invalid message: " + result);
         }
     }
@@ -160,12 +322,37 @@ public class MessageSerializer {
 
     public static void registerDocument(URI uri, InputStream stream) {
         try {
-            CONTEXTS.put(uri, JsonDocument.of(stream));
+            CONTEXTS.register(uri, JsonDocument.of(stream));
+            CONTEXT_CACHE.clear();
+            DOCUMENT_CACHE.clear();
         } catch (JsonLdError e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Registers a context file that is read and parsed when a message first references it.
+     */
+    public static void registerDocument(URI uri, Path path) {
+        if (!Files.isReadable(path)) {
+            throw new RuntimeException("JSON-LD context file not readable: " + path);
+        }
+        CONTEXTS.register(uri, path);
+        CONTEXT_CACHE.clear();
+        DOCUMENT_CACHE.clear();
+    }
+
+
+    /**
+     * Creates the options shared by all compaction and expansion calls. Sharing them lets Titanium's context and document caches
+     * survive across messages, so the DSP and ODRL contexts are resolved once rather than per message.
+     */
+    private static JsonLdOptions createOptions() {
+        var options = new JsonLdOptions((uri, documentLoaderOptions) -> CONTEXTS.get(uri));
+        options.setContextCache(CONTEXT_CACHE);
+        options.setDocumentCache(DOCUMENT_CACHE);
+        return options;
+    }
 
     private static void loadCustomContexts() {
         var ids = System.getProperties()
@@ -184,11 +371,7 @@ public class MessageSerializer {
             if (uri == null) {
                 continue;
             }
-            try {
-                registerDocument(URI.create(uri), new FileInputStream(path));
-            } catch (FileNotFoundException e) {
-                throw new RuntimeException(e);
-            }
+            registerDocument(URI.create(uri), Path.of(path));
         }
 
     }
@@ -200,4 +383,54 @@ public class MessageSerializer {
         }
         return null;
     }
+
+    /**
+     * Signals that a message stream exceeded the configured maximum size.
+     */
+    private static class MessageSizeExceededException extends IOException {
+    }
+
+    /**
+     * Limits the number of bytes that can be read from a stream.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var result = super.read();
+            if (result != -1) {
+                consume(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var result = super.read(buffer, offset, length);
+            if (result > 0) {
+                consume(result);
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            var result = super.skip(count);
+            consume(result);
+            return result;
+        }
+
+        private void consume(long count) throws MessageSizeExceededException {
+            remaining -= count;
+            if (remaining < 0) {
+                throw new MessageSizeExceededException();
+            }
+        }
+    }
 }
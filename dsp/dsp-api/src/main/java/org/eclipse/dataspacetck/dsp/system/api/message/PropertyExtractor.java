@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.VALUE;
+
+/**
+ * Reads a fixed set of string properties from an expanded message. Create extractors once, typically as constants, and use
+ * them instead of repeated {@link JsonLdFunctions#stringIdProperty(String, Map)} calls. Lookups fail with the same assertion
+ * errors as {@link JsonLdFunctions}, and successful lookups do not allocate.
+ */
+public final class PropertyExtractor {
+    private final String[] keys;
+    private final String valueKey;
+
+    private PropertyExtractor(String valueKey, String... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("At least one property is required");
+        }
+        this.valueKey = valueKey;
+        this.keys = keys.clone();
+    }
+
+    /**
+     * Creates an extractor for properties in expanded {@code @id} form.
+     */
+    public static PropertyExtractor ids(String... keys) {
+        return new PropertyExtractor(ID, keys);
+    }
+
+    /**
+     * Creates an extractor for properties in expanded {@code @value} form.
+     */
+    public static PropertyExtractor values(String... keys) {
+        return new PropertyExtractor(VALUE, keys);
+    }
+
+    /**
+     * Returns the property at the given position of this extractor.
+     */
+    public String extract(Map<String, Object> message, int index) {
+        var key = keys[index];
+        return unwrap(key, valueKey, message.get(key), false);
+    }
+
+    /**
+     * Passes the two properties of this extractor to the factory, for example to create an id pair. Fails for extractors that do
+     * not have exactly two properties, so that no property is silently ignored.
+     */
+    public <T> T extract(Map<String, Object> message, BiFunction<String, String, T> factory) {
+        if (keys.length != 2) {
+            throw new IllegalStateException(format("Extractor has %s properties, expected two: %s", keys.length, String.join(", ", keys)));
+        }
+        return factory.apply(unwrap(keys[0], valueKey, message.get(keys[0]), false), unwrap(keys[1], valueKey, message.get(keys[1]), false));
+    }
+
+    static String unwrap(String key, String valueKey, Object untypedValue, boolean optional) {
+        if (untypedValue == null) {
+            if (optional) {
+                return null;
+            }
+            throw new AssertionError(format("Property '%s' was not found", key));
+        }
+        if (untypedValue instanceof List<?> valueList) {
+            if (valueList.isEmpty()) {
+                throw new AssertionError(format("Property '%s' was empty", key));
+            }
+            if (valueList.get(0) instanceof Map<?, ?> valueContainer) {
+                var value = valueContainer.get(valueKey);
+                if (value == null) {
+                    throw new NullPointerException(format("No %s attribute for property: %s", valueKey, key));
+                }
+                return value.toString();
+            }
+        }
+        throw new AssertionError(format("Property '%s' was not in expanded @value form", key));
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.typed;
+
+/**
+ * A typed {@code ContractAgreementVerificationMessage} as defined by {@code negotiation/contract-agreement-verification-message-schema.json}.
+ */
+public record ContractAgreementVerificationMessage(String providerPid, String consumerPid) {
+    public static final String TYPE = "ContractAgreementVerificationMessage";
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.typed;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.CONTEXT;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_CONTEXT;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TYPE;
+
+/**
+ * Streams a record whose properties are all strings directly to its compact JSON-LD form, without an intermediate tree. There is
+ * no matching deserializer: a peer may use any valid context, so incoming messages are always read by expansion.
+ */
+class FlatMessageCodec<T> {
+    private final Class<T> recordType;
+    private final String type;
+    private final List<String> properties;
+    private final Function<T, String[]> values;
+
+    FlatMessageCodec(Class<T> recordType, String type, List<String> properties, Function<T, String[]> values) {
+        this.recordType = recordType;
+        this.type = type;
+        this.properties = properties;
+        this.values = values;
+    }
+
+    Class<T> recordType() {
+        return recordType;
+    }
+
+    String type() {
+        return type;
+    }
+
+    ValueSerializer<T> serializer() {
+        return new ValueSerializer<>() {
+            @Override
+            public void serialize(T value, JsonGenerator generator, SerializationContext context) {
+                generator.writeStartObject();
+                generator.writeName(CONTEXT);
+                generator.writeStartArray();
+                generator.writeString(DSPACE_CONTEXT);
+                generator.writeEndArray();
+                generator.writeStringProperty(TYPE, type);
+                var propertyValues = values.apply(value);
+                for (var i = 0; i < properties.size(); i++) {
+                    if (propertyValues[i] != null) {
+                        generator.writeStringProperty(properties.get(i), propertyValues[i]);
+                    }
+                }
+                generator.writeEndObject();
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.typed;
+
+import tools.jackson.databind.module.SimpleModule;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Registers the streaming serializers of the typed messages. Typed messages are used for outgoing messages with a fixed shape;
+ * pass them to {@code MessageSerializer.serialize} or the HTTP functions like any other message. Their serializers already write
+ * the compact form, so they are not compacted again and are written straight to the output. Incoming messages are always read
+ * with {@code MessageSerializer.expandAndDeserialize}.
+ */
+public final class TypedMessages {
+    private static final List<FlatMessageCodec<?>> CODECS = List.of(
+            new FlatMessageCodec<>(ContractNegotiationEventMessage.class, ContractNegotiationEventMessage.TYPE, List.of("providerPid", "consumerPid", "eventType"),
+                    m -> new String[]{ m.providerPid(), m.consumerPid(), m.eventType() }),
+            new FlatMessageCodec<>(ContractAgreementVerificationMessage.class, ContractAgreementVerificationMessage.TYPE, List.of("providerPid", "consumerPid"),
+                    m -> new String[]{ m.providerPid(), m.consumerPid() }));
+
+    private static final Map<Class<?>, String> TYPES = CODECS.stream().collect(toMap(FlatMessageCodec::recordType, FlatMessageCodec::type));
+
+    private TypedMessages() {
+    }
+
+    /**
+     * Returns the DSP message type of a typed message, or null if the message is not one.
+     */
+    public static String typeOf(Object message) {
+        return message == null ? null : TYPES.get(message.getClass());
+    }
+
+    /**
+     * Returns a Jackson module with the serializer of every typed message.
+     */
+    public static SimpleModule module() {
+        var module = new SimpleModule("dsp-typed-messages");
+        CODECS.forEach(codec -> register(module, codec));
+        return module;
+    }
+
+    private static <T> void register(SimpleModule module, FlatMessageCodec<T> codec) {
+        module.addSerializer(codec.recordType(), codec.serializer());
+    }
+}
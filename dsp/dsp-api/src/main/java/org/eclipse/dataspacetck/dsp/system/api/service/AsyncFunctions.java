@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+/**
+ * Adapts synchronous work to the asynchronous client contracts.
+ */
+public class AsyncFunctions {
+
+    private AsyncFunctions() {
+    }
+
+    /**
+     * Executes the work on the calling thread and returns a future completed with its result or its error.
+     */
+    public static <T> CompletableFuture<T> supplyCompleted(Supplier<T> work) {
+        try {
+            return completedFuture(work.get());
+        } catch (RuntimeException | AssertionError e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Executes the work on the calling thread and returns a future completed when it returns or with its error.
+     */
+    public static CompletableFuture<Void> runCompleted(Runnable work) {
+        return supplyCompleted(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -15,21 +15,25 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiConsumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
-import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.FINALIZED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
@@ -38,24 +42,41 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 /**
  * The contract negotiation entity.
  * <p>
- * This implementation is thread-safe.
+ * This implementation is thread-safe. The mutable state is held in an immutable snapshot that is replaced atomically on every
+ * transition, so reads never block and a transition that races with another one is retried against the new state.
+ * <p>
+ * Applied transitions are journaled by the transitioning thread. They complete waiters and are passed to listeners one at a
+ * time, in the order in which they were applied. A transition applied while another thread is notifying, or by a listener, is
+ * notified by that thread once the transitions before it are done, so {@code transition} may return before its own listeners
+ * have run. Listeners receive the states of the transition they are notified of; the negotiation passed to them, like the one
+ * passed to the work of a transition, may already be in a later state.
  */
 public class ContractNegotiation {
 
     private static final Consumer<ContractNegotiation> NULL_WORK = n -> {
     };
-    private final List<BiConsumer<State, ContractNegotiation>> listeners = new ArrayList<>();
-    private final List<Map<String, Object>> offers = new ArrayList<>();
-    private final LockManager lockManager = new LockManager();
+
+    private static final TransitionRules<State> TRANSITIONS = new TransitionRules<>(State.class)
+            .allow(INITIALIZED, REQUESTED, OFFERED, TERMINATED)
+            .allow(REQUESTED, OFFERED, AGREED, TERMINATED)
+            .allow(OFFERED, REQUESTED, OFFERED, ACCEPTED, TERMINATED)
+            .allow(ACCEPTED, AGREED, TERMINATED)
+            .allow(AGREED, VERIFIED, TERMINATED)
+            .allow(VERIFIED, FINALIZED, TERMINATED);
+
+    private final List<TransitionListener> listeners = new ArrayList<>();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(INITIALIZED, null, List.of(), null, 0));
+    private final StateWaiters<State, ContractNegotiation> waiters = new StateWaiters<>();
+    private final Map<Long, Transition> pendingNotifications = new ConcurrentHashMap<>();
+    private final AtomicBoolean notifying = new AtomicBoolean();
+    private volatile long notifiedVersion;
     private String id;
-    private String correlationId;
     private String offerId;
     private String datasetId;
     private String counterPartyId;
     private String callbackAddress;
-    private State state = State.INITIALIZED;
-    private Map<String, Object> agreement;
     private NegotiationKind negotiationKind = NegotiationKind.Consumer;
+    private TransitionJournal journal;
 
     private ContractNegotiation() {
     }
@@ -81,65 +102,70 @@ public class ContractNegotiation {
     }
 
     public String getCorrelationId() {
-        return lockManager.readLock(() -> correlationId);
+        return snapshot.get().correlationId();
     }
 
     public State getState() {
-        return lockManager.readLock(() -> state);
+        return snapshot.get().state();
     }
 
     public Map<String, Object> getLastOffer() {
-        return lockManager.readLock(() -> offers.isEmpty() ? null : offers.get(offers.size() - 1));
+        var offers = snapshot.get().offers();
+        return offers.isEmpty() ? null : offers.get(offers.size() - 1);
     }
 
     public String consumerPid() {
-        return negotiationKind.equals(NegotiationKind.Consumer) ? id : correlationId;
+        return negotiationKind.equals(NegotiationKind.Consumer) ? id : getCorrelationId();
     }
 
     public String providerPid() {
-        return negotiationKind.equals(NegotiationKind.Provider) ? id : correlationId;
+        return negotiationKind.equals(NegotiationKind.Provider) ? id : getCorrelationId();
     }
 
     public List<Map<String, Object>> getOffers() {
-        return lockManager.readLock(() -> new ArrayList<>(offers));
+        return new ArrayList<>(snapshot.get().offers());
     }
 
     public Map<String, Object> getAgreement() {
-        return lockManager.readLock(() -> agreement);
+        return snapshot.get().agreement();
+    }
+
+    /**
+     * Returns the transitions applied to this negotiation.
+     */
+    public TransitionJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns a future that is completed by the transition to the state, or right away if the negotiation is already in it. The
+     * future completes on the transitioning thread and fails with a {@link java.util.concurrent.TimeoutException} if the
+     * state is not reached in time.
+     */
+    public CompletableFuture<ContractNegotiation> awaitState(State state, Duration timeout) {
+        return waiters.await(state, this::getState, this, timeout);
     }
 
     /**
      * Sets the correlation id.
      */
     public void setCorrelationId(String id, State state) {
-        lockManager.writeLock(() -> {
-            this.correlationId = id;
-            transition(state);
-            return null;
-        });
+        update(state, current -> current.withCorrelationId(id));
     }
 
     /**
-     * Stores the offer and executes the work while holding a write lock.
+     * Stores the offer together with the transition and executes the work once the transition has been applied.
      */
     public void storeOffer(Map<String, Object> offer, State state, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
-            offers.add(offer);
-            transition(state);
-            return null;
-        });
+        update(state, current -> current.withOffer(offer));
         work.accept(this);
     }
 
     /**
-     * Stores the agreement and executes the work while holding a write lock.
+     * Stores the agreement together with the transition and executes the work once the transition has been applied.
      */
     public void storeAgreement(Map<String, Object> agreement, Consumer<ContractNegotiation> work) {
-        lockManager.writeLock(() -> {
-            this.agreement = agreement;
-            transition(AGREED);
-            return null;
-        });
+        update(AGREED, current -> current.withAgreement(agreement));
         work.accept(this);
     }
 
@@ -151,68 +177,63 @@ public class ContractNegotiation {
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Transitions to the new state and executes the work once the transition has been applied.
      */
     public void transition(State newState, Consumer<ContractNegotiation> work) throws IllegalStateException {
-        lockManager.writeLock(() -> {
-            var oldState = state;
-            switch (state) {
-                case INITIALIZED -> {
-                    assertStates(newState, REQUESTED, OFFERED, TERMINATED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case REQUESTED -> {
-                    assertStates(newState, OFFERED, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case OFFERED -> {
-                    assertStates(newState, REQUESTED, OFFERED, ACCEPTED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case ACCEPTED -> {
-                    assertStates(newState, AGREED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case AGREED -> {
-                    assertStates(newState, VERIFIED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case VERIFIED -> {
-                    assertStates(newState, FINALIZED, TERMINATED);
-                    state = newState;
-                    listeners.forEach(l -> l.accept(oldState, this));
-                }
-                case FINALIZED -> throw new IllegalStateException(FINALIZED + " is a final state");
-                case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
-                default -> throw new IllegalStateException("Unexpected value: " + state);
-            }
-            work.accept(this);
-            return null;
-        });
+        update(newState, UnaryOperator.identity());
+        work.accept(this);
     }
 
-    private void verifyCorrelationId(State newState) {
-        if (newState == REQUESTED || newState == OFFERED) {
-            if (correlationId == null) {
-                throw new IllegalStateException("Correlation id not set");
+    /**
+     * Applies the change and the transition in a single compare-and-set, journals the transition and then notifies it. If another
+     * transition wins the race, the transition is verified and applied again against the new snapshot.
+     */
+    private void update(State newState, UnaryOperator<Snapshot> change) {
+        while (true) {
+            var current = snapshot.get();
+            TRANSITIONS.verify(current.state(), newState);
+            var next = change.apply(current).withTransition(newState);
+            if (current.state() == INITIALIZED) {
+                verifyCorrelationId(newState, next.correlationId());
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                journal.append(next.version(), current.state(), newState);
+                pendingNotifications.put(next.version(), new Transition(current.state(), newState));
+                notifyTransitions();
+                return;
             }
         }
     }
 
-    private void assertStates(State toState, State... states) {
-        for (var state : states) {
-            if (toState == state) {
+    /**
+     * Notifies the pending transitions in version order until the next one has not been queued yet. Only one thread notifies at a
+     * time; the flag is checked again after releasing it, so a transition queued just before the release is not left behind.
+     */
+    private void notifyTransitions() {
+        while (notifying.compareAndSet(false, true)) {
+            try {
+                Transition transition;
+                while ((transition = pendingNotifications.remove(notifiedVersion + 1)) != null) {
+                    notifiedVersion++;
+                    var applied = transition;
+                    waiters.complete(applied.to(), this);
+                    listeners.forEach(listener -> listener.transitioned(applied.from(), applied.to(), this));
+                }
+            } finally {
+                notifying.set(false);
+            }
+            if (!pendingNotifications.containsKey(notifiedVersion + 1)) {
                 return;
             }
         }
-        var legalStates = Arrays.stream(states).map(Enum::toString).collect(Collectors.joining(", "));
-        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", this.state, toState, legalStates));
+    }
+
+    private static void verifyCorrelationId(State newState, String correlationId) {
+        if (newState == REQUESTED || newState == OFFERED) {
+            if (correlationId == null) {
+                throw new IllegalStateException("Correlation id not set");
+            }
+        }
     }
 
     public enum State {
@@ -231,8 +252,50 @@ public class ContractNegotiation {
         Provider
     }
 
+    /**
+     * Receives the transitions of a negotiation in the order they were applied.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void transitioned(State from, State to, ContractNegotiation negotiation);
+    }
+
+    private record Transition(State from, State to) {
+    }
+
+    /**
+     * The state of a negotiation that changes with transitions. Instances are never modified; the offers list is copied on write.
+     * The version counts the applied transitions and orders their journal entries and notification.
+     */
+    private record Snapshot(State state, String correlationId, List<Map<String, Object>> offers, Map<String, Object> agreement, long version) {
+
+        Snapshot withState(State state) {
+            return new Snapshot(state, correlationId, offers, agreement, version);
+        }
+
+        Snapshot withTransition(State state) {
+            return new Snapshot(state, correlationId, offers, agreement, version + 1);
+        }
+
+        Snapshot withCorrelationId(String correlationId) {
+            return new Snapshot(state, correlationId, offers, agreement, version);
+        }
+
+        Snapshot withOffer(Map<String, Object> offer) {
+            var newOffers = new ArrayList<Map<String, Object>>(offers.size() + 1);
+            newOffers.addAll(offers);
+            newOffers.add(offer);
+            return new Snapshot(state, correlationId, unmodifiableList(newOffers), agreement, version);
+        }
+
+        Snapshot withAgreement(Map<String, Object> agreement) {
+            return new Snapshot(state, correlationId, offers, agreement, version);
+        }
+    }
+
     public static class Builder {
         private ContractNegotiation negotiation;
+        private TransitionStatistics statistics = TransitionJournal.getStatistics();
 
         private Builder() {
             negotiation = new ContractNegotiation();
@@ -243,7 +306,7 @@ public class ContractNegotiation {
         }
 
         public Builder correlationId(String correlationId) {
-            negotiation.correlationId = correlationId;
+            negotiation.snapshot.set(negotiation.snapshot.get().withCorrelationId(correlationId));
             return this;
         }
 
@@ -257,13 +320,13 @@ public class ContractNegotiation {
             return this;
         }
 
-        public Builder listener(BiConsumer<State, ContractNegotiation> listener) {
+        public Builder listener(TransitionListener listener) {
             negotiation.listeners.add(listener);
             return this;
         }
 
         public Builder state(State state) {
-            this.negotiation.state = state;
+            negotiation.snapshot.set(negotiation.snapshot.get().withState(state));
             return this;
         }
 
@@ -283,10 +346,20 @@ public class ContractNegotiation {
             return this;
         }
 
+        /**
+         * Sets the statistics the transitions are recorded in. Defaults to the global statistics.
+         */
+        public Builder statistics(TransitionStatistics statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
         public ContractNegotiation build() {
             negotiation.id = randomUUID().toString();
-            negotiation.verifyCorrelationId(negotiation.state);
+            var initial = negotiation.snapshot.get();
+            verifyCorrelationId(initial.state(), initial.correlationId());
             Objects.requireNonNull(negotiation.negotiationKind);
+            negotiation.journal = new TransitionJournal("ContractNegotiation/" + negotiation.negotiationKind, statistics);
             return negotiation;
         }
 
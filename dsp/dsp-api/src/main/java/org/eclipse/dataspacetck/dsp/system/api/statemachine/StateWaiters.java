@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The futures waiting for a state machine to reach a state.
+ */
+final class StateWaiters<S extends Enum<S>, T> {
+    private final Queue<Waiter<S, T>> waiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns a future that is completed with the entity by the transition to the state, or right away if the current state
+     * already is the state. The future fails with a {@link java.util.concurrent.TimeoutException} if the state is not reached in
+     * time.
+     */
+    CompletableFuture<T> await(S state, Supplier<S> currentState, T entity, Duration timeout) {
+        var waiter = new Waiter<S, T>(state, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.future().whenComplete((result, failure) -> waiters.remove(waiter));
+        // checked after registering, so a concurrent transition completes the future either here or in complete()
+        waiter.complete(currentState.get(), entity);
+        return waiter.future().orTimeout(timeout.toMillis(), MILLISECONDS);
+    }
+
+    /**
+     * Completes the futures waiting for the new state.
+     */
+    void complete(S newState, T entity) {
+        waiters.forEach(waiter -> waiter.complete(newState, entity));
+    }
+
+    private record Waiter<S extends Enum<S>, T>(S state, CompletableFuture<T> future) {
+        void complete(S newState, T entity) {
+            if (state == newState) {
+                future.complete(entity);
+            }
+        }
+    }
+}
@@ -14,15 +14,18 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
-import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.COMPLETED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.STARTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.SUSPENDED;
@@ -32,30 +35,47 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 /**
  * The transfer process entity.
  * <p>
- * This implementation is thread-safe.
+ * This implementation is thread-safe. The mutable state is published as an immutable {@link Snapshot} that is replaced
+ * atomically on every change. Readers that need several values at once should use {@link #getSnapshot()} to obtain them from a
+ * single, consistent state without locking.
  */
 public class TransferProcess {
 
-    private final LockManager lockManager = new LockManager();
-    private State state = State.INITIALIZED;
-    private DataAddress dataAddress;
+    private static final Consumer<TransferProcess> NULL_WORK = tp -> {
+    };
+
+    private static final TransitionRules<State> TRANSITIONS = new TransitionRules<>(State.class)
+            .allow(INITIALIZED, REQUESTED)
+            .allow(REQUESTED, STARTED, TERMINATED)
+            .allow(SUSPENDED, STARTED, TERMINATED)
+            .allow(STARTED, SUSPENDED, TERMINATED, COMPLETED);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(INITIALIZED, null, null, null, null, 0));
+    private final StateWaiters<State, TransferProcess> waiters = new StateWaiters<>();
     private String id;
-    private String correlationId;
     private String agreementId;
     private String format;
     private String callbackAddress;
     private TransferKind transferKind = TransferKind.Consumer;
+    private TransitionJournal journal;
 
     public String getId() {
         return id;
     }
 
+    /**
+     * Returns the current state, correlation id and data address as one consistent value.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
     public DataAddress getDataAddress() {
-        return dataAddress;
+        return snapshot.get().dataAddress();
     }
 
     public void setDataAddress(DataAddress dataAddress) {
-        this.dataAddress = dataAddress;
+        snapshot.updateAndGet(current -> current.withDataAddress(dataAddress));
     }
 
     public String getAgreementId() {
@@ -67,85 +87,112 @@ public class TransferProcess {
     }
 
     public String getCorrelationId() {
-        return correlationId;
+        return snapshot.get().correlationId();
     }
 
     public void setCorrelationId(String correlationId) {
-        this.correlationId = correlationId;
+        snapshot.updateAndGet(current -> current.withCorrelationId(correlationId));
+    }
+
+    /**
+     * Sets the correlation id together with the transition.
+     */
+    public void setCorrelationId(String correlationId, State state) {
+        setCorrelationId(correlationId, state, NULL_WORK);
+    }
+
+    /**
+     * Sets the correlation id together with the transition and executes the work once the transition has been applied.
+     */
+    public void setCorrelationId(String correlationId, State state, Consumer<TransferProcess> work) {
+        update(state, current -> current.withCorrelationId(correlationId));
+        work.accept(this);
+    }
+
+    /**
+     * Stores the data address together with the transition and executes the work once the transition has been applied.
+     */
+    public void storeDataAddress(DataAddress dataAddress, State state, Consumer<TransferProcess> work) {
+        update(state, current -> current.withDataAddress(dataAddress));
+        work.accept(this);
     }
 
     public State getState() {
-        return state;
+        return snapshot.get().state();
     }
 
     public String getCallbackAddress() {
         return callbackAddress;
     }
 
+    /**
+     * Returns the transitions applied to this transfer process.
+     */
+    public TransitionJournal getJournal() {
+        return journal;
+    }
+
     public String consumerPid() {
-        return transferKind.equals(TransferKind.Consumer) ? id : correlationId;
+        return transferKind.equals(TransferKind.Consumer) ? id : getCorrelationId();
     }
 
     public String providerPid() {
-        return transferKind.equals(TransferKind.Provider) ? id : correlationId;
+        return transferKind.equals(TransferKind.Provider) ? id : getCorrelationId();
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Returns a future that is completed by the transition to the state, or right away if the transfer process is already in it.
+     * The future completes on the transitioning thread and fails with a {@link java.util.concurrent.TimeoutException} if the
+     * state is not reached in time.
+     */
+    public CompletableFuture<TransferProcess> awaitState(State state, Duration timeout) {
+        return waiters.await(state, this::getState, this, timeout);
+    }
+
+    /**
+     * Transitions to the new state.
      */
     public void transition(State newState) {
-        transition(newState, (tp) -> {
-        });
+        transition(newState, NULL_WORK);
     }
 
     /**
-     * Transitions to the new state and executes the work while holding a write-lock.
+     * Transitions to the new state and executes the work once the transition has been applied.
      *
      * @param newState the new state
      * @param work     the work to execute
      */
     public void transition(State newState, Consumer<TransferProcess> work) throws IllegalStateException {
-        lockManager.writeLock(() -> {
-            switch (state) {
-                case INITIALIZED -> {
-                    assertStates(newState, REQUESTED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                }
-                case REQUESTED, SUSPENDED -> {
-                    assertStates(newState, STARTED, TERMINATED);
-                    state = newState;
-                }
-                case STARTED -> {
-                    assertStates(newState, SUSPENDED, TERMINATED, TERMINATED, COMPLETED);
-                    verifyCorrelationId(newState);
-                    state = newState;
-                }
-                case COMPLETED -> throw new IllegalStateException(COMPLETED + " is a final state");
-                case TERMINATED -> throw new IllegalStateException(TERMINATED + " is a final state");
-                default -> throw new IllegalStateException("Unexpected value: " + state);
-            }
-            work.accept(this);
-            return null;
-        });
+        update(newState, UnaryOperator.identity());
+        work.accept(this);
     }
 
-    private void verifyCorrelationId(State newState) {
-        if (newState == REQUESTED || newState == STARTED) {
-            if (correlationId == null) {
-                throw new IllegalStateException("Correlation id not set");
+    /**
+     * Applies the change and the transition in a single compare-and-set and journals the transition. If another change wins the
+     * race, the transition is verified and applied again against the new snapshot.
+     */
+    private void update(State newState, UnaryOperator<Snapshot> change) {
+        while (true) {
+            var current = snapshot.get();
+            TRANSITIONS.verify(current.state(), newState);
+            var next = change.apply(current).withTransition(newState);
+            if (current.state() == INITIALIZED || current.state() == STARTED) {
+                verifyCorrelationId(newState, next.correlationId());
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                journal.append(next.version(), current.state(), newState);
+                waiters.complete(newState, this);
+                return;
             }
         }
     }
 
-    private void assertStates(State toState, State... states) {
-        for (var state : states) {
-            if (toState == state) {
-                return;
+    private static void verifyCorrelationId(State newState, String correlationId) {
+        if (newState == REQUESTED || newState == STARTED) {
+            if (correlationId == null) {
+                throw new IllegalStateException("Correlation id not set");
             }
         }
-        var legalStates = Arrays.stream(states).map(Enum::toString).collect(Collectors.joining(", "));
-        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", this.state, toState, legalStates));
     }
 
     public enum State {
@@ -157,7 +204,6 @@ public class TransferProcess {
         TERMINATED
     }
 
-
     public enum TransferKind {
         Consumer,
         Provider
@@ -167,8 +213,42 @@ public class TransferProcess {
 
     }
 
+    /**
+     * The values of a transfer process that change over its lifetime, as of one point in time.
+     *
+     * @param state         the state
+     * @param correlationId the id of the process on the counter-party, or null if not known yet
+     * @param dataAddress   the data address, or null
+     * @param createdAt     when the process was created
+     * @param updatedAt     when any of the values last changed
+     * @param version       the number of transitions applied, which orders their journal entries
+     */
+    public record Snapshot(State state, String correlationId, DataAddress dataAddress, Instant createdAt, Instant updatedAt, long version) {
+
+        Snapshot withState(State state) {
+            return new Snapshot(state, correlationId, dataAddress, createdAt, Instant.now(), version);
+        }
+
+        Snapshot withTransition(State state) {
+            return new Snapshot(state, correlationId, dataAddress, createdAt, Instant.now(), version + 1);
+        }
+
+        Snapshot withCorrelationId(String correlationId) {
+            return new Snapshot(state, correlationId, dataAddress, createdAt, Instant.now(), version);
+        }
+
+        Snapshot withDataAddress(DataAddress dataAddress) {
+            return new Snapshot(state, correlationId, dataAddress, createdAt, Instant.now(), version);
+        }
+
+        Snapshot withCreatedAt(Instant createdAt) {
+            return new Snapshot(state, correlationId, dataAddress, createdAt, createdAt, version);
+        }
+    }
+
     public static class Builder {
         private final TransferProcess process;
+        private TransitionStatistics statistics = TransitionJournal.getStatistics();
 
         private Builder() {
             this.process = new TransferProcess();
@@ -184,7 +264,7 @@ public class TransferProcess {
         }
 
         public Builder correlationId(String correlationId) {
-            process.correlationId = correlationId;
+            process.snapshot.set(process.snapshot.get().withCorrelationId(correlationId));
             return this;
         }
 
@@ -199,12 +279,12 @@ public class TransferProcess {
         }
 
         public Builder state(State state) {
-            process.state = state;
+            process.snapshot.set(process.snapshot.get().withState(state));
             return this;
         }
 
         public Builder dataAddress(DataAddress dataAddress) {
-            process.dataAddress = dataAddress;
+            process.snapshot.set(process.snapshot.get().withDataAddress(dataAddress));
             return this;
         }
 
@@ -218,9 +298,19 @@ public class TransferProcess {
             return this;
         }
 
+        /**
+         * Sets the statistics the transitions are recorded in. Defaults to the global statistics.
+         */
+        public Builder statistics(TransitionStatistics statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
         public TransferProcess build() {
             process.id = randomUUID().toString();
             Objects.requireNonNull(process.transferKind, "Transfer kind must be set");
+            process.snapshot.set(process.snapshot.get().withCreatedAt(Instant.now()));
+            process.journal = new TransitionJournal("TransferProcess/" + process.transferKind, statistics);
             return process;
         }
     }
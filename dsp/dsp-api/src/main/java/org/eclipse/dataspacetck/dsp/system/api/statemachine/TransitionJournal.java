@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Records the transitions of a single negotiation or transfer process in the order they were applied. Each entry holds the
+ * previous and new state, a monotonic timestamp, the type of the DSP message being handled on the transitioning thread and the
+ * name of that thread. Entries are kept in parallel arrays, so appending does not allocate unless the journal grows.
+ * <p>
+ * Transitions are appended with their sequence number, the position at which they were applied. A transition appended before
+ * one that was applied earlier is held back until the gap is filled, so the entries never get out of order.
+ * <p>
+ * Every transition is also recorded with the time spent in the previous state in the {@link TransitionStatistics} of the journal:
+ * those of the target the process was created for in a multi-target run, otherwise the global statistics.
+ */
+public final class TransitionJournal {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final ThreadLocal<String> RECEIVED_MESSAGE_TYPE = new ThreadLocal<>();
+    private static final TransitionStatistics STATISTICS = new TransitionStatistics();
+    private static final Map<String, TransitionStatistics> TARGET_STATISTICS = new ConcurrentHashMap<>();
+
+    private final String process;
+    private final TransitionStatistics statistics;
+    private final long createdNanos;
+    private Enum<?>[] fromStates = new Enum<?>[INITIAL_CAPACITY];
+    private Enum<?>[] toStates = new Enum<?>[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private String[] messageTypes = new String[INITIAL_CAPACITY];
+    private String[] threads = new String[INITIAL_CAPACITY];
+    private int size;
+
+    TransitionJournal(String process) {
+        this(process, STATISTICS);
+    }
+
+    TransitionJournal(String process, TransitionStatistics statistics) {
+        this.process = process;
+        this.statistics = statistics;
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * Handles a received DSP message on the current thread. Transitions applied by the handling are attributed to the message
+     * type; the previous attribution of the thread is restored afterward.
+     */
+    public static <T> T received(String messageType, Supplier<T> handling) {
+        var previous = RECEIVED_MESSAGE_TYPE.get();
+        RECEIVED_MESSAGE_TYPE.set(messageType);
+        try {
+            return handling.get();
+        } finally {
+            if (previous == null) {
+                RECEIVED_MESSAGE_TYPE.remove();
+            } else {
+                RECEIVED_MESSAGE_TYPE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Handles a received DSP message on the current thread. Transitions applied by the handling are attributed to the message
+     * type; the previous attribution of the thread is restored afterward.
+     */
+    public static void received(String messageType, Runnable handling) {
+        received(messageType, () -> {
+            handling.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the transition latencies aggregated over all processes not created for a target.
+     */
+    public static TransitionStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Returns the transition latencies of the processes created for the named target, so that the latencies of different
+     * connectors under test are not merged.
+     */
+    public static TransitionStatistics getStatistics(String target) {
+        return TARGET_STATISTICS.computeIfAbsent(target, k -> new TransitionStatistics());
+    }
+
+    /**
+     * Returns the transition latencies of all targets, sorted by target name.
+     */
+    public static Map<String, TransitionStatistics> getTargetStatistics() {
+        return new TreeMap<>(TARGET_STATISTICS);
+    }
+
+    /**
+     * Returns the kind of process, for example {@code ContractNegotiation/Provider}.
+     */
+    public String getProcess() {
+        return process;
+    }
+
+    /**
+     * Returns a copy of the entries.
+     */
+    public synchronized List<Entry> getEntries() {
+        var entries = new ArrayList<Entry>(size);
+        for (var i = 0; i < size; i++) {
+            entries.add(new Entry(fromStates[i].name(), toStates[i].name(), timestamps[i] - createdNanos, messageTypes[i], threads[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the entries as text, one line per transition with its offset from the creation of the process.
+     */
+    public String export() {
+        var builder = new StringBuilder("Transitions of ").append(process).append(':');
+        for (var entry : getEntries()) {
+            builder.append(format("%n  +%.1f ms %s -> %s (message: %s, thread: %s)", entry.offsetNanos() / 1_000_000.0,
+                    entry.from(), entry.to(), entry.messageType(), entry.thread()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends the transition applied at the given sequence number, counted from one. Must be called on the transitioning thread.
+     */
+    synchronized void append(long sequence, Enum<?> from, Enum<?> to) {
+        var now = System.nanoTime();
+        var index = (int) (sequence - 1);
+        if (index >= timestamps.length) {
+            var capacity = Math.max(timestamps.length * 2, index + 1);
+            fromStates = Arrays.copyOf(fromStates, capacity);
+            toStates = Arrays.copyOf(toStates, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            messageTypes = Arrays.copyOf(messageTypes, capacity);
+            threads = Arrays.copyOf(threads, capacity);
+        }
+        fromStates[index] = from;
+        toStates[index] = to;
+        timestamps[index] = now;
+        messageTypes[index] = RECEIVED_MESSAGE_TYPE.get();
+        threads[index] = Thread.currentThread().getName();
+        while (size < fromStates.length && fromStates[size] != null) {
+            var previous = size == 0 ? createdNanos : timestamps[size - 1];
+            statistics.record(process, fromStates[size], toStates[size], Math.max(0, timestamps[size] - previous));
+            size++;
+        }
+    }
+
+    /**
+     * A single transition.
+     *
+     * @param from        the previous state
+     * @param to          the new state
+     * @param offsetNanos the time between the creation of the process and the transition
+     * @param messageType the type of the DSP message handled on the transitioning thread, or null
+     * @param thread      the name of the transitioning thread
+     */
+    public record Entry(String from, String to, long offsetNanos, String messageType, String thread) {
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import java.util.StringJoiner;
+
+import static java.lang.String.format;
+
+/**
+ * The legal transitions of a state machine, as a bit mask of target state ordinals per state. States without legal targets are
+ * final.
+ */
+final class TransitionRules<S extends Enum<S>> {
+    private final S[] states;
+    private final int[] legalTransitions;
+
+    TransitionRules(Class<S> stateType) {
+        this.states = stateType.getEnumConstants();
+        this.legalTransitions = new int[states.length];
+    }
+
+    @SafeVarargs
+    final TransitionRules<S> allow(S fromState, S... toStates) {
+        for (var toState : toStates) {
+            legalTransitions[fromState.ordinal()] |= 1 << toState.ordinal();
+        }
+        return this;
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} listing the legal target states if the transition is not allowed.
+     */
+    void verify(S fromState, S toState) {
+        var legal = legalTransitions[fromState.ordinal()];
+        if ((legal & (1 << toState.ordinal())) != 0) {
+            return;
+        }
+        if (legal == 0) {
+            throw new IllegalStateException(fromState + " is a final state");
+        }
+        var legalStates = new StringJoiner(", ");
+        for (var state : states) {
+            if ((legal & (1 << state.ordinal())) != 0) {
+                legalStates.add(state.toString());
+            }
+        }
+        throw new IllegalStateException(format("Illegal state transition from %s to %s. To state must be one of %s.", fromState, toState, legalStates));
+    }
+}
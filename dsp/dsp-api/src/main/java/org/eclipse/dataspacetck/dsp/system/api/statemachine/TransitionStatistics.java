@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.statemachine;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Aggregates the time processes spend in a state before each transition, per process kind and transition. For processes that
+ * mirror the connector under test, this is the protocol-level latency of the connector as observed by the TCK.
+ */
+public class TransitionStatistics {
+    /**
+     * Upper bounds in milliseconds of the latency histogram buckets. Slower transitions fall into an overflow bucket.
+     */
+    public static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+    private final Map<TransitionKey, LatencyStatistics> transitions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics of all transitions, sorted by process kind, previous state and new state.
+     */
+    public Map<TransitionKey, LatencyStatistics> getTransitions() {
+        var result = new TreeMap<TransitionKey, LatencyStatistics>(comparing(TransitionKey::process)
+                .thenComparing(TransitionKey::from)
+                .thenComparing(TransitionKey::to));
+        result.putAll(transitions);
+        return result;
+    }
+
+    public void reset() {
+        transitions.clear();
+    }
+
+    void record(String process, Enum<?> from, Enum<?> to, long nanos) {
+        transitions.computeIfAbsent(new TransitionKey(process, from.name(), to.name()), k -> new LatencyStatistics()).record(nanos);
+    }
+
+    /**
+     * Identifies a transition of a kind of process.
+     */
+    public record TransitionKey(String process, String from, String to) {
+    }
+
+    /**
+     * Latency histogram of one transition.
+     */
+    public static class LatencyStatistics {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        LatencyStatistics() {
+            for (var i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getMeanMillis() {
+            var n = count.sum();
+            return n == 0 ? 0 : total.sum() / 1_000_000.0 / n;
+        }
+
+        public double getMaxMillis() {
+            return max.get() / 1_000_000.0;
+        }
+
+        /**
+         * Returns the number of transitions per histogram bucket, aligned with {@link #BUCKET_BOUNDS_MILLIS} plus a trailing overflow bucket.
+         */
+        public long[] getHistogram() {
+            var result = new long[buckets.length];
+            for (var i = 0; i < buckets.length; i++) {
+                result[i] = buckets[i].sum();
+            }
+            return result;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+            buckets[bucket(nanos / 1_000_000)].increment();
+        }
+
+        private int bucket(long millis) {
+            for (var i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (millis <= BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_BOUNDS_MILLIS.length;
+        }
+    }
+}
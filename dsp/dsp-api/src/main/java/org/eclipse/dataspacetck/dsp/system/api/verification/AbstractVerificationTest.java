@@ -16,10 +16,6 @@
 package org.eclipse.dataspacetck.dsp.system.api.verification;
 
 import com.networknt.schema.Error;
-import com.networknt.schema.InputFormat;
-import com.networknt.schema.SchemaLocation;
-import com.networknt.schema.SchemaRegistry;
-import com.networknt.schema.dialect.Dialects;
 import org.eclipse.dataspacetck.core.api.message.MessageValidator;
 import org.eclipse.dataspacetck.core.system.SystemBootstrapExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,17 +33,15 @@ public abstract class AbstractVerificationTest {
     protected static final String CLASSPATH_SCHEMA = "classpath:/";
     protected static final String DSPACE_NAMESPACE = "https://w3id.org/dspace/2025/1";
 
-    private static final SchemaRegistry SCHEMA_FACTORY = SchemaRegistry.withDialect(Dialects.getDraft201909(), builder ->
-            builder.schemaIdResolvers(schemaIdResolvers ->
-                    schemaIdResolvers.mapPrefix(DSPACE_NAMESPACE + "/", CLASSPATH_SCHEMA))
-    );
-
-
+    /**
+     * Returns a validator for the schema at the given path below the DSP namespace. The schema is compiled once, see
+     * {@link SchemaCache}. Messages are validated as the Jackson tree passed in, without writing and re-parsing them as text.
+     */
     protected static MessageValidator forSchema(String schema) {
         return (input) -> {
-            var schemaValidator = SCHEMA_FACTORY.getSchema(SchemaLocation.of(DSPACE_NAMESPACE + schema));
+            var schemaValidator = SchemaCache.get(schema);
 
-            var response = schemaValidator.validate(input.toString(), InputFormat.JSON);
+            var response = schemaValidator.validate(input);
             if (response.isEmpty()) {
                 return List.of();
             }
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.verification;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.dialect.Dialects;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.dataspacetck.dsp.system.api.verification.AbstractVerificationTest.CLASSPATH_SCHEMA;
+import static org.eclipse.dataspacetck.dsp.system.api.verification.AbstractVerificationTest.DSPACE_NAMESPACE;
+
+/**
+ * Compiles the DSP message schemas once and shares them across validations. Schemas are identified by their path below the
+ * DSP namespace, for example {@code /negotiation/contract-request-message-schema.json}. A schema is compiled on first use,
+ * including its references, unless it was compiled in advance with {@link #warm(Collection)}.
+ * <p>
+ * The schemas are bundled by the {@code dsp-schemas} module together with an index of the {@code $id} of every schema to its
+ * resource. Indexed IDs are mapped to their resource directly, and all schemas share one registry, so a schema referenced by
+ * several others is loaded once. IDs missing from the index fall back to the classpath location below the namespace.
+ */
+public final class SchemaCache {
+    private static final String INDEX_RESOURCE = "dsp-schemas/index.properties";
+    private static final Map<String, String> INDEX = loadIndex();
+    private static final SchemaRegistry SCHEMA_FACTORY = SchemaRegistry.withDialect(Dialects.getDraft201909(), builder ->
+            builder.schemaIdResolvers(schemaIdResolvers -> {
+                INDEX.forEach((id, resource) -> schemaIdResolvers.mapPrefix(id, CLASSPATH_SCHEMA + resource));
+                schemaIdResolvers.mapPrefix(DSPACE_NAMESPACE + "/", CLASSPATH_SCHEMA);
+            })
+    );
+    private static final Map<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<String, Duration> COMPILE_TIMES = new ConcurrentHashMap<>();
+
+    private SchemaCache() {
+    }
+
+    /**
+     * Returns the compiled schema, compiling it if it is not cached yet.
+     */
+    public static Schema get(String schema) {
+        return SCHEMAS.computeIfAbsent(schema, SchemaCache::compile);
+    }
+
+    /**
+     * Compiles the given schemas in parallel and waits until all are cached. Failures are rethrown after all schemas were
+     * attempted.
+     */
+    public static void warm(Collection<String> schemas) {
+        if (schemas.isEmpty()) {
+            return;
+        }
+        var executor = Executors.newFixedThreadPool(Math.min(schemas.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            CompletableFuture.allOf(schemas.stream()
+                    .map(schema -> CompletableFuture.runAsync(() -> get(schema), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the IDs of all bundled schemas, relative to the DSP namespace.
+     */
+    public static Set<String> getIndexedSchemas() {
+        var schemas = new TreeSet<String>();
+        INDEX.keySet().forEach(id -> schemas.add(id.substring(DSPACE_NAMESPACE.length())));
+        return schemas;
+    }
+
+    /**
+     * Returns the compile time of every cached schema, ordered by schema path.
+     */
+    public static Map<String, Duration> getCompileTimes() {
+        return new TreeMap<>(COMPILE_TIMES);
+    }
+
+    private static Schema compile(String schema) {
+        var start = System.nanoTime();
+        var compiled = SCHEMA_FACTORY.getSchema(SchemaLocation.of(DSPACE_NAMESPACE + schema));
+        compiled.initializeValidators();
+        COMPILE_TIMES.put(schema, Duration.ofNanos(System.nanoTime() - start));
+        return compiled;
+    }
+
+    private static Map<String, String> loadIndex() {
+        var index = new TreeMap<String, String>();
+        try (var stream = SchemaCache.class.getClassLoader().getResourceAsStream(INDEX_RESOURCE)) {
+            if (stream == null) {
+                return index;
+            }
+            var properties = new Properties();
+            properties.load(stream);
+            properties.stringPropertyNames().stream()
+                    .filter(id -> id.startsWith(DSPACE_NAMESPACE + "/"))
+                    .forEach(id -> index.put(id, properties.getProperty(id)));
+            return index;
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read schema index: " + INDEX_RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class CachingTokenProviderTest {
+
+    @Test
+    void verifyTokenIsCached() {
+        var count = new AtomicInteger();
+        try (var provider = new CachingTokenProvider(() -> new TokenProvider.Token("token" + count.incrementAndGet(), null),
+                Duration.ofMinutes(5), Duration.ofSeconds(1))) {
+            assertThat(provider.get()).isEqualTo("token1");
+            assertThat(provider.get()).isEqualTo("token1");
+            assertThat(count.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void verifyConcurrentCallersShareOneRefresh() throws InterruptedException {
+        var count = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        TokenProvider slowProvider = () -> {
+            count.incrementAndGet();
+            try {
+                release.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TokenProvider.Token("token", null);
+        };
+        try (var provider = new CachingTokenProvider(slowProvider, Duration.ofMinutes(5), Duration.ofSeconds(1))) {
+            var futures = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(provider))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            futures.forEach(future -> assertThat(future.join()).isEqualTo("token"));
+            assertThat(count.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void verifyRefreshAheadReplacesTokenInBackground() {
+        var clock = new MutableClock();
+        var count = new AtomicInteger();
+        try (var provider = new CachingTokenProvider(() -> new TokenProvider.Token("token" + count.incrementAndGet(), null),
+                Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofSeconds(5), e -> {
+                }, clock)) {
+            assertThat(provider.get()).isEqualTo("token1");
+
+            clock.advance(Duration.ofSeconds(250));
+            assertThat(provider.get()).isEqualTo("token1");
+
+            await().atMost(5, SECONDS).untilAsserted(() -> assertThat(provider.get()).isEqualTo("token2"));
+            assertThat(count.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void verifyRefreshAheadFailureIsReported() {
+        var clock = new MutableClock();
+        var count = new AtomicInteger();
+        List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+        TokenProvider failingProvider = () -> {
+            if (count.incrementAndGet() > 1) {
+                throw new IllegalStateException("provider down");
+            }
+            return new TokenProvider.Token("token", null);
+        };
+        try (var provider = new CachingTokenProvider(failingProvider, Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofSeconds(5),
+                failures::add, clock)) {
+            provider.get();
+            clock.advance(Duration.ofSeconds(250));
+
+            assertThat(provider.get()).isEqualTo("token");
+            await().atMost(5, SECONDS).until(() -> failures.size() == 1);
+            assertThat(failures.get(0)).hasMessage("provider down");
+
+            // the next attempt is postponed instead of being made on every call
+            assertThat(provider.get()).isEqualTo("token");
+            assertThat(count.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void verifyRefreshAheadCappedToHalfTokenLifetime() {
+        var clock = new MutableClock();
+        var count = new AtomicInteger();
+        TokenProvider shortLived = () -> new TokenProvider.Token("token" + count.incrementAndGet(), clock.instant().plusSeconds(10));
+        try (var provider = new CachingTokenProvider(shortLived, Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofSeconds(5), e -> {
+        }, clock)) {
+            provider.get();
+            clock.advance(Duration.ofSeconds(4));
+            provider.get();
+            provider.get();
+
+            assertThat(count.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void verifyRefreshAheadMustBeShorterThanTtl() {
+        assertThatThrownBy(() -> new CachingTokenProvider(() -> new TokenProvider.Token("token", null), Duration.ofSeconds(30), Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyWaitForTokenIsBounded() {
+        var release = new CountDownLatch(1);
+        TokenProvider hangingProvider = () -> {
+            try {
+                release.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TokenProvider.Token("token", null);
+        };
+        try (var provider = new CachingTokenProvider(hangingProvider, Duration.ofMinutes(5), Duration.ofSeconds(1), Duration.ofMillis(100), e -> {
+        })) {
+            assertThatThrownBy(provider::get).isInstanceOf(IllegalStateException.class).hasMessageContaining("Timed out");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeTagTest {
+
+    @Test
+    void verifyPathTemplate() {
+        assertThat(ExchangeTag.pathTemplate("http://localhost:8080/api/dsp/negotiations/request")).isEqualTo("negotiations/request");
+        assertThat(ExchangeTag.pathTemplate("http://localhost:8080/api/dsp/negotiations/urn:uuid:123/termination")).isEqualTo("negotiations/%s/termination");
+        assertThat(ExchangeTag.pathTemplate("http://localhost:8080/api/dsp/transfers/123/start")).isEqualTo("transfers/%s/start");
+        assertThat(ExchangeTag.pathTemplate("http://localhost:8080/api/dsp/catalog/datasets/ds1")).isEqualTo("catalog/datasets/%s");
+        assertThat(ExchangeTag.pathTemplate("http://localhost:8080/.well-known/dspace-version")).isEqualTo(".well-known/dspace-version");
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Interceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpFunctionsTest {
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final List<Headers> requests = new CopyOnWriteArrayList<>();
+    private final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @Test
+    void verifyGetAsyncAppliesInterceptor() throws Exception {
+        Interceptor interceptor = chain -> chain.proceed(chain.request().newBuilder().header("Authorization", "scoped").build());
+
+        try (var response = HttpFunctions.getJsonAsync(url("/catalog/datasets/1"), false, interceptor).get(10, SECONDS)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getFirst("Authorization")).isEqualTo("scoped");
+    }
+
+    @Test
+    void verifyGetAppliesInterceptor() {
+        Interceptor interceptor = chain -> chain.proceed(chain.request().newBuilder().header("Authorization", "scoped").build());
+
+        try (var response = HttpFunctions.getJson(url("/catalog/datasets/1"), false, interceptor)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        assertThat(requests.get(0).getFirst("Authorization")).isEqualTo("scoped");
+    }
+
+    @Test
+    void verifyAuthorizationInterceptorsAreIndependent() {
+        var alpha = HttpFunctions.createAuthorizationInterceptor(() -> "alpha");
+        var beta = HttpFunctions.createAuthorizationInterceptor(() -> "beta");
+
+        try (var first = HttpFunctions.postJson(url("/callback/negotiations/1/offers"), Map.of("key", "value"), false, true, alpha);
+             var second = HttpFunctions.postJson(url("/callback/negotiations/1/offers"), Map.of("key", "value"), false, true, beta)) {
+            assertThat(first.code()).isEqualTo(200);
+            assertThat(second.code()).isEqualTo(200);
+        }
+
+        assertThat(requests).extracting(headers -> headers.getFirst("Authorization")).containsExactly("alpha", "beta");
+    }
+
+    @Test
+    void verifyPostAsyncRetriesRejectedRequests() throws Exception {
+        HttpFunctions.registerRetryPolicy(RetryPolicy.fixed(3, Duration.ofMillis(10)));
+        statuses.add(429);
+        statuses.add(429);
+
+        try (var response = HttpFunctions.postJsonAsync(url("/negotiations/request"), Map.of("key", "x".repeat(64 * 1024)), false, true, null).get(10, SECONDS)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        assertThat(requests).hasSize(3);
+        assertThat(bodies).allSatisfy(body -> assertThat(body).isEqualTo(bodies.get(0)));
+        assertThat(requests).allSatisfy(headers -> assertThat(headers.getFirst("Content-Length")).isEqualTo(String.valueOf(bodies.get(0).length)));
+    }
+
+    @Test
+    void verifyPostAsyncFailsWhenRetryDeclined() {
+        HttpFunctions.registerRetryPolicy(RetryPolicy.none());
+        statuses.add(400);
+
+        var future = HttpFunctions.postJsonAsync(url("/negotiations/request"), Map.of("key", "value"), false, true, null);
+
+        assertThatThrownBy(() -> future.get(10, SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void verifyPostAsyncAppliesInterceptor() throws Exception {
+        Interceptor interceptor = chain -> chain.proceed(chain.request().newBuilder().header("Authorization", "scoped").build());
+
+        try (var response = HttpFunctions.postJsonAsync(url("/negotiations/request"), Map.of("key", "value"), false, true, interceptor).get(10, SECONDS)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        assertThat(requests.get(0).getFirst("Authorization")).isEqualTo("scoped");
+    }
+
+    @Test
+    void verifyPostSendsContentLength() {
+        try (var response = HttpFunctions.postJson(url("/negotiations/request"), Map.of("key", "value"), false, true, null)) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        var headers = requests.get(0);
+        assertThat(headers.getFirst("Content-Length")).isEqualTo(String.valueOf(bodies.get(0).length));
+        assertThat(headers.containsKey("Transfer-Encoding")).isFalse();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            var headers = new Headers();
+            headers.putAll(exchange.getRequestHeaders());
+            requests.add(headers);
+            bodies.add(exchange.getRequestBody().readAllBytes());
+            var status = statuses.poll();
+            var body = "{}".getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status != null ? status : 200, body.length);
+            try (var output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        HttpFunctions.registerRetryPolicy(null);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+    private static final String BODY = "{\"key\":\"value\"}";
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private final List<String> conditionalRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private HttpServer server;
+
+    @Test
+    void verifyNotModifiedReplaysCachedBody() throws IOException {
+        var client = client(new ResponseCache(1024, 1024, 10));
+
+        assertThat(get(client, "/catalog/datasets/1")).isEqualTo(BODY);
+        assertThat(get(client, "/catalog/datasets/1")).isEqualTo(BODY);
+
+        assertThat(conditionalRequests).containsExactly("/catalog/datasets/1");
+        assertThat(notModified).hasValue(1);
+    }
+
+    @Test
+    void verifyLeastRecentlyUsedResponseEvicted() throws IOException {
+        var client = client(new ResponseCache(2L * BODY.length(), BODY.length(), 10));
+
+        get(client, "/catalog/datasets/1");
+        get(client, "/catalog/datasets/2");
+        get(client, "/catalog/datasets/1");
+        get(client, "/catalog/datasets/3");
+        get(client, "/catalog/datasets/1");
+        get(client, "/catalog/datasets/2");
+
+        assertThat(conditionalRequests).containsExactly("/catalog/datasets/1", "/catalog/datasets/1");
+    }
+
+    @Test
+    void verifyLargeBodyPassedThroughUncached() throws IOException {
+        var large = "{\"key\":\"" + "x".repeat(4096) + "\"}";
+        bodies.put("/catalog/datasets/1", large);
+        bodies.put("/chunked/catalog/datasets/1", large);
+        var client = client(new ResponseCache(64 * 1024, 1024, 10));
+
+        assertThat(get(client, "/catalog/datasets/1")).isEqualTo(large);
+        assertThat(get(client, "/catalog/datasets/1")).isEqualTo(large);
+        assertThat(get(client, "/chunked/catalog/datasets/1")).isEqualTo(large);
+        assertThat(get(client, "/chunked/catalog/datasets/1")).isEqualTo(large);
+
+        assertThat(conditionalRequests).isEmpty();
+    }
+
+    @Test
+    void verifyParsedResultIsCopied() {
+        var cache = new ResponseCache(1024, 1024, 10);
+        var parses = new AtomicInteger();
+        Map<String, Object> parsed = new LinkedHashMap<>(Map.of("list", new ArrayList<>(List.of("a"))));
+
+        var first = cache.parsed("http://connector/catalog/datasets/1", "\"v1\"", () -> {
+            parses.incrementAndGet();
+            return parsed;
+        });
+        //noinspection unchecked
+        ((List<Object>) first.get("list")).add("b");
+        first.put("other", "value");
+        var second = cache.parsed("http://connector/catalog/datasets/1", "\"v1\"", () -> {
+            parses.incrementAndGet();
+            return Map.of();
+        });
+
+        assertThat(parses).hasValue(1);
+        assertThat(second).containsOnlyKeys("list").containsEntry("list", List.of("a"));
+        assertThat(cache.parsed("http://connector/catalog/datasets/1", "\"v2\"", Map::of)).isEmpty();
+    }
+
+    @Test
+    void verifyOnlyParsedGetsAreRevalidated() {
+        HttpFunctions.registerResponseCache(new ResponseCache(1024, 1024, 10));
+
+        HttpFunctions.getJson(url("/negotiations/1")).close();
+        HttpFunctions.getJson(url("/negotiations/1")).close();
+        HttpFunctions.getJson(url("/catalog/datasets/1"), false, null, stream -> Map.of());
+        HttpFunctions.getJson(url("/catalog/datasets/1"), false, null, stream -> Map.of());
+
+        assertThat(conditionalRequests).containsExactly("/catalog/datasets/1");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            var path = exchange.getRequestURI().getPath();
+            var body = bodies.getOrDefault(path, BODY).getBytes(UTF_8);
+            var etag = "\"" + path.hashCode() + "-" + body.length + "\"";
+            var ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (ifNoneMatch != null) {
+                conditionalRequests.add(path);
+            }
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(ifNoneMatch)) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, path.startsWith("/chunked/") ? 0 : body.length);
+            try (var output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        HttpFunctions.registerResponseCache(null);
+    }
+
+    private OkHttpClient client(ResponseCache cache) {
+        return new OkHttpClient.Builder().addInterceptor(cache).build();
+    }
+
+    private String get(OkHttpClient client, String path) throws IOException {
+        try (var response = client.newCall(new Request.Builder().url(url(path)).build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            return response.body().string();
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.http;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryPolicyTest {
+
+    @Test
+    void verifyDefaultPolicyBacksOffExponentially() {
+        var response = response(null);
+
+        assertThat(HttpFunctions.DEFAULT_RETRY_POLICY.nextDelay(response, 0)).contains(Duration.ofMillis(200));
+        assertThat(HttpFunctions.DEFAULT_RETRY_POLICY.nextDelay(response, 1)).contains(Duration.ofMillis(400));
+        assertThat(HttpFunctions.DEFAULT_RETRY_POLICY.nextDelay(response, 2)).isEmpty();
+    }
+
+    @Test
+    void verifyNone() {
+        assertThat(RetryPolicy.none().nextDelay(response(null), 0)).isEmpty();
+    }
+
+    @Test
+    void verifyRetryAfter() {
+        var policy = RetryPolicy.retryAfter(RetryPolicy.fixed(3, Duration.ofMillis(100)), Duration.ofSeconds(5));
+
+        assertThat(policy.nextDelay(response("2"), 0)).contains(Duration.ofSeconds(2));
+        assertThat(policy.nextDelay(response("60"), 0)).contains(Duration.ofSeconds(5));
+        assertThat(policy.nextDelay(response(null), 0)).contains(Duration.ofMillis(100));
+        assertThat(policy.nextDelay(response("2"), 2)).isEmpty();
+    }
+
+    @Test
+    void verifyBudget() {
+        var policy = RetryPolicy.budget(RetryPolicy.fixed(10, Duration.ZERO), 2);
+
+        assertThat(policy.nextDelay(response(null), 0)).isPresent();
+        assertThat(policy.nextDelay(response(null), 0)).isPresent();
+        assertThat(policy.nextDelay(response(null), 0)).isEmpty();
+    }
+
+    private Response response(String retryAfter) {
+        var builder = new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/test").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(429)
+                .message("Too Many Requests");
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextStoreTest {
+    private static final URI CONTEXT_URI = URI.create("https://example.com/context.jsonld");
+    private static final String CONTEXT = """
+            {"@context": {"@version": 1.1, "name": "https://example.com/name", "size": {"@id": "https://example.com/size", "@type": "xsd:integer"}, "list": [1, 2.5, true, null]}}
+            """;
+
+    @Test
+    void verifyFileIsParsedLazily(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("context.jsonld");
+        var store = new ContextStore();
+
+        store.register(CONTEXT_URI, file);
+        Files.writeString(file, CONTEXT);
+
+        assertThat(store.get(CONTEXT_URI)).isNotNull();
+        assertThat(store.get(CONTEXT_URI)).isSameAs(store.get(CONTEXT_URI));
+        assertThat(store.get(URI.create("https://example.com/other.jsonld"))).isNull();
+    }
+
+    @Test
+    void verifyBinaryCacheRoundTrip(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("context.jsonld");
+        Files.writeString(file, CONTEXT);
+        var store = new ContextStore();
+        store.setBinaryCache(true);
+        store.register(CONTEXT_URI, file);
+        var parsed = store.get(CONTEXT_URI).getJsonContent().orElseThrow();
+
+        assertThat(directory.resolve("context.jsonld.tckcache")).exists();
+
+        var cachedStore = new ContextStore();
+        cachedStore.setBinaryCache(true);
+        cachedStore.register(CONTEXT_URI, file);
+
+        assertThat(cachedStore.get(CONTEXT_URI).getJsonContent().orElseThrow()).isEqualTo(parsed);
+    }
+
+    @Test
+    void verifyCorruptCacheLengthFallsBackToSource(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("context.jsonld");
+        Files.writeString(file, CONTEXT);
+        var store = new ContextStore();
+        store.setBinaryCache(true);
+        store.register(CONTEXT_URI, file);
+        var parsed = store.get(CONTEXT_URI).getJsonContent().orElseThrow();
+
+        // header of magic, version, size and modification time, then the object tag and size before the first key length
+        var cache = directory.resolve("context.jsonld.tckcache");
+        var bytes = Files.readAllBytes(cache);
+        ByteBuffer.wrap(bytes).putInt(29, Integer.MAX_VALUE);
+        Files.write(cache, bytes);
+
+        var corruptStore = new ContextStore();
+        corruptStore.setBinaryCache(true);
+        corruptStore.register(CONTEXT_URI, file);
+
+        assertThat(corruptStore.get(CONTEXT_URI).getJsonContent().orElseThrow()).isEqualTo(parsed);
+    }
+}
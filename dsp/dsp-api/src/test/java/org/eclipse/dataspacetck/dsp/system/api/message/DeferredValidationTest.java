@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeferredValidationTest {
+
+    @AfterEach
+    void tearDown() {
+        DeferredValidation.configure(false, 0);
+    }
+
+    @Test
+    void verifyViolationsFailScopeOnClose() {
+        DeferredValidation.configure(true, 1);
+        var scope = DeferredValidation.open();
+
+        assertThat(DeferredValidation.submit("TestMessage", () -> List.of("missing property"))).isTrue();
+        assertThat(DeferredValidation.submit("TestMessage", List::of)).isTrue();
+
+        assertThatThrownBy(scope::close)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("TestMessage")
+                .hasMessageContaining("missing property");
+    }
+
+    @Test
+    void verifyValidationIsSynchronousWithoutScope() {
+        DeferredValidation.configure(true, 1);
+
+        assertThat(DeferredValidation.submit("TestMessage", List::of)).isFalse();
+    }
+
+    @Test
+    void verifyCallbackMessagesChargedToOwningScope() {
+        DeferredValidation.configure(true, 1);
+        var owner = DeferredValidation.open();
+        var other = DeferredValidation.open();
+
+        var submitted = CompletableFuture.supplyAsync(() -> owner.call(() -> DeferredValidation.submit("TestMessage", () -> List.of("missing property")))).join();
+        var unscoped = CompletableFuture.supplyAsync(() -> DeferredValidation.submit("TestMessage", List::of)).join();
+
+        assertThat(submitted).isTrue();
+        assertThat(unscoped).isFalse();
+        assertThatNoException().isThrownBy(other::close);
+        assertThatThrownBy(owner::close).isInstanceOf(AssertionError.class).hasMessageContaining("missing property");
+    }
+
+    @Test
+    void verifyClosedScopeValidatesSynchronously() {
+        DeferredValidation.configure(true, 1);
+        var scope = DeferredValidation.open();
+        scope.close();
+
+        assertThat(scope.call(() -> DeferredValidation.submit("TestMessage", List::of))).isFalse();
+    }
+
+    @Test
+    void verifyReconfigurationKeepsPendingValidations() {
+        DeferredValidation.configure(true, 1);
+        var scope = DeferredValidation.open();
+
+        assertThat(DeferredValidation.submit("FirstMessage", () -> List.of("first violation"))).isTrue();
+        DeferredValidation.configure(true, 3);
+        assertThat(DeferredValidation.submit("SecondMessage", () -> List.of("second violation"))).isTrue();
+
+        assertThatThrownBy(scope::close)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("first violation")
+                .hasMessageContaining("second violation");
+    }
+
+    @Test
+    void verifyDisabledScopeIsNoop() {
+        var scope = DeferredValidation.open();
+
+        assertThat(DeferredValidation.submit("TestMessage", () -> List.of("ignored"))).isFalse();
+        assertThatNoException().isThrownBy(scope::close);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.DEFAULT_MAX_MESSAGE_SIZE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.MAPPER;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.compactMessage;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
+
+class MessageSerializerTest {
+    private static final String MESSAGE = """
+            {
+              "@context": ["https://w3id.org/dspace/2025/1/context.jsonld"],
+              "@type": "ContractNegotiationTerminationMessage",
+              "providerPid": "urn:uuid:provider",
+              "consumerPid": "urn:uuid:consumer"
+            }
+            """;
+
+    @AfterEach
+    void tearDown() {
+        MessageSerializer.setMaxMessageSize(DEFAULT_MAX_MESSAGE_SIZE);
+        MessageSerializer.setCompactionTemplates(false, 0);
+    }
+
+    @Test
+    void verifyStreamingExpansion() {
+        var expanded = expandAndDeserialize(new ByteArrayInputStream(MESSAGE.getBytes(UTF_8)));
+
+        assertThat(expanded.get("@type")).asList().containsExactly(DSPACE_NAMESPACE + "ContractNegotiationTerminationMessage");
+        assertThat(expanded).containsKey(DSPACE_NAMESPACE + "providerPid");
+    }
+
+    @Test
+    void verifyOversizedMessageFails() {
+        MessageSerializer.setMaxMessageSize(16);
+
+        assertThatThrownBy(() -> expandAndDeserialize(new ByteArrayInputStream(MESSAGE.getBytes(UTF_8))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("maximum size");
+    }
+
+    @Test
+    void verifyTemplatedCompactionMatchesJsonLd() {
+        var templates = new CompactionTemplates();
+        templates.configure(true, 0);
+        var compactions = new AtomicInteger();
+        UnaryOperator<JsonNode> compactor = node -> {
+            compactions.incrementAndGet();
+            return MessageSerializer.compactDocument(node);
+        };
+        var first = compactTree(NegotiationFunctions.createContractRequest("consumer1", "offer1", "target1", "http://localhost/callback"));
+        var message = compactTree(NegotiationFunctions.createContractRequest("consumer2", "offer2", "target2", "http://localhost/callback"));
+        var expected = compactTree(message);
+
+        templates.compact(first, compactor);
+        var templated = templates.compact(message, compactor);
+
+        assertThat(compactions).hasValue(1);
+        assertThat(templated).isSameAs(message).isEqualTo(expected);
+        assertThat(templates.getDivergences()).isZero();
+    }
+
+    @Test
+    void verifyTemplatesDisabledByDefault() {
+        var templates = new CompactionTemplates();
+        var compactions = new AtomicInteger();
+        var message = compactTree(NegotiationFunctions.createContractRequest("consumer", "offer", "target", "http://localhost/callback"));
+
+        templates.compact(message, node -> {
+            compactions.incrementAndGet();
+            return node;
+        });
+        templates.compact(message, node -> {
+            compactions.incrementAndGet();
+            return node;
+        });
+
+        assertThat(compactions).hasValue(2);
+    }
+
+    @Test
+    void verifyTemplatesKeptWhenSettingsUnchanged() {
+        var templates = new CompactionTemplates();
+        var compactions = new AtomicInteger();
+        var message = compactTree(NegotiationFunctions.createContractRequest("consumer", "offer", "target", "http://localhost/callback"));
+        templates.configure(true, 0);
+
+        templates.compact(message, node -> {
+            compactions.incrementAndGet();
+            return node;
+        });
+        templates.configure(true, 0);
+        templates.compact(message, node -> {
+            compactions.incrementAndGet();
+            return node;
+        });
+
+        assertThat(compactions).hasValue(1);
+    }
+
+    @Test
+    void verifyShapesWithDifferentStructureDoNotShareTemplate() {
+        var request = NegotiationFunctions.createContractRequest("consumer", "offer", "target", null);
+        var requestWithProvider = NegotiationFunctions.createContractRequest("consumer", "provider", "offer", "target", null);
+
+        assertThat(CompactionTemplates.signature(compactTree(request)))
+                .isNotEqualTo(CompactionTemplates.signature(compactTree(requestWithProvider)));
+    }
+
+    @Test
+    void verifyMessageCompactedAsJsonP() {
+        var message = NegotiationFunctions.createContractRequest("consumer", "offer", "target", "http://localhost/callback");
+
+        var compacted = compactMessage(message);
+
+        assertThat(compacted).isInstanceOf(JsonObject.class);
+        assertThat(((JsonObject) compacted).getString("@type")).isEqualTo("ContractRequestMessage");
+        assertThat(serialize(message)).isEqualTo(MAPPER.writeValueAsString(compacted));
+    }
+
+    private static JsonNode compactTree(Object message) {
+        return MAPPER.valueToTree(compactMessage(message));
+    }
+}
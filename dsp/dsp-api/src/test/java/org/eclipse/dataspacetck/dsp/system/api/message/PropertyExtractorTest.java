@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.ID;
+
+class PropertyExtractorTest {
+    private static final PropertyExtractor IDS = PropertyExtractor.ids(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+
+    @Test
+    void verifyExtraction() {
+        Map<String, Object> message = Map.of(
+                DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider")),
+                DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, List.of(Map.of(ID, "consumer")));
+
+        assertThat(IDS.extract(message, (provider, consumer) -> provider + "/" + consumer)).isEqualTo("provider/consumer");
+        assertThat(IDS.extract(message, 1)).isEqualTo("consumer");
+        assertThat(IDS.extract(message, 0)).isEqualTo(JsonLdFunctions.stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message));
+    }
+
+    @Test
+    void verifyMissingPropertyFails() {
+        Map<String, Object> message = Map.of(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, List.of(Map.of(ID, "provider")));
+
+        assertThatThrownBy(() -> IDS.extract(message, (provider, consumer) -> provider))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
+    }
+
+    @Test
+    void verifyPairRequiresTwoProperties() {
+        var single = PropertyExtractor.ids(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
+        var triple = PropertyExtractor.ids(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, ID);
+
+        assertThatThrownBy(() -> single.extract(Map.of(), (first, second) -> first)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> triple.extract(Map.of(), (first, second) -> first)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.api.message.typed;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.MAPPER;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.compactMessage;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
+import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAcceptedEvent;
+
+class TypedMessagesTest {
+
+    @Test
+    void verifySerializedFormIsValidJsonLd() {
+        var json = serialize(new ContractNegotiationEventMessage("provider", "consumer", "ACCEPTED"));
+
+        var expanded = expandAndDeserialize(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+        assertThat(expanded.get("@type")).asList().containsExactly(DSPACE_NAMESPACE + "ContractNegotiationEventMessage");
+        assertThat(expanded).containsKeys(DSPACE_NAMESPACE + "providerPid", DSPACE_NAMESPACE + "consumerPid", DSPACE_NAMESPACE + "eventType");
+    }
+
+    @Test
+    void verifyCompactedLikeUntypedMessage() {
+        JsonNode untyped = MAPPER.valueToTree(compactMessage(createAcceptedEvent("provider", "consumer")));
+
+        JsonNode typed = MAPPER.valueToTree(compactMessage(new ContractNegotiationEventMessage("provider", "consumer", "ACCEPTED")));
+
+        assertThat(typed.get("@type")).isEqualTo(untyped.get("@type"));
+        assertThat(typed.get("providerPid")).isEqualTo(untyped.get("providerPid"));
+        assertThat(typed.get("consumerPid")).isEqualTo(untyped.get("consumerPid"));
+        assertThat(typed.get("eventType")).isEqualTo(untyped.get("eventType"));
+    }
+
+    @Test
+    void verifyTypedMessageWrittenWithoutCompaction() {
+        var message = new ContractNegotiationEventMessage("provider", "consumer", "ACCEPTED");
+
+        assertThat(compactMessage(message)).isSameAs(message);
+        assertThat(TypedMessages.typeOf(message)).isEqualTo(ContractNegotiationEventMessage.TYPE);
+        assertThat(TypedMessages.typeOf(Map.of())).isNull();
+    }
+
+    @Test
+    void verifyVerificationMessageSerialized() {
+        var json = serialize(new ContractAgreementVerificationMessage("provider", "consumer"));
+
+        var expanded = expandAndDeserialize(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+        assertThat(expanded.get("@type")).asList().containsExactly(DSPACE_NAMESPACE + "ContractAgreementVerificationMessage");
+        assertThat(expanded).containsKeys(DSPACE_NAMESPACE + "providerPid", DSPACE_NAMESPACE + "consumerPid");
+    }
+}
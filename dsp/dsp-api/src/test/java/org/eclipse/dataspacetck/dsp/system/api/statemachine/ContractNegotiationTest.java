@@ -20,14 +20,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
-import java.util.function.BiConsumer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.INITIALIZED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -62,11 +76,173 @@ class ContractNegotiationTest {
 
     @Test
     void verifyListenerCalled() {
-        @SuppressWarnings("unchecked") BiConsumer<ContractNegotiation.State, ContractNegotiation> listener = mock(BiConsumer.class);
+        var listener = mock(ContractNegotiation.TransitionListener.class);
         negotiation = ContractNegotiation.Builder.newInstance().datasetId(randomUUID().toString()).correlationId(randomUUID().toString()).listener(listener).build();
         negotiation.transition(REQUESTED);
 
-        verify(listener, times(1)).accept(eq(INITIALIZED), isA(ContractNegotiation.class));
+        verify(listener, times(1)).transitioned(eq(INITIALIZED), eq(REQUESTED), isA(ContractNegotiation.class));
+    }
+
+    @Test
+    void verifyListenersNotifiedInTransitionOrder() {
+        var notifications = new CopyOnWriteArrayList<String>();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .listener((from, to, n) -> {
+                    notifications.add("start " + from + "->" + to);
+                    if (to == REQUESTED) {
+                        n.transition(OFFERED);
+                    }
+                    notifications.add("end " + from + "->" + to);
+                })
+                .build();
+
+        negotiation.transition(REQUESTED);
+
+        assertEquals(List.of("start INITIALIZED->REQUESTED", "end INITIALIZED->REQUESTED", "start REQUESTED->OFFERED", "end REQUESTED->OFFERED"), notifications);
+        assertEquals(OFFERED, negotiation.getState());
+        assertEquals(2, negotiation.getJournal().getEntries().size());
+    }
+
+    @Test
+    void verifyIllegalTransitionListsLegalStates() {
+        negotiation.setCorrelationId(randomUUID().toString(), REQUESTED);
+
+        var exception = assertThrows(IllegalStateException.class, () -> negotiation.transition(INITIALIZED));
+
+        assertEquals("Illegal state transition from REQUESTED to INITIALIZED. To state must be one of OFFERED, AGREED, TERMINATED.", exception.getMessage());
+    }
+
+    @Test
+    void verifyFinalState() {
+        negotiation.transition(TERMINATED);
+
+        var exception = assertThrows(IllegalStateException.class, () -> negotiation.transition(TERMINATED));
+
+        assertEquals("TERMINATED is a final state", exception.getMessage());
+    }
+
+    @Test
+    void verifyOffersStoredWithTransition() {
+        negotiation.setCorrelationId(randomUUID().toString(), REQUESTED);
+        negotiation.storeOffer(Map.of("id", "offer1"), OFFERED, n -> assertEquals(OFFERED, n.getState()));
+        negotiation.storeOffer(Map.of("id", "offer2"), OFFERED, n -> {
+        });
+
+        assertEquals(Map.of("id", "offer2"), negotiation.getLastOffer());
+        assertEquals(2, negotiation.getOffers().size());
+    }
+
+    @Test
+    void verifyConcurrentTransitionsAppliedOnce() throws InterruptedException {
+        var notifications = new AtomicInteger();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .datasetId(randomUUID().toString())
+                .correlationId(randomUUID().toString())
+                .state(REQUESTED)
+                .listener((from, to, n) -> notifications.incrementAndGet())
+                .build();
+        var threads = 8;
+        var start = new CountDownLatch(1);
+        var succeeded = new AtomicInteger();
+        var failed = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (var i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        negotiation.transition(TERMINATED);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        failed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, succeeded.get());
+        assertEquals(threads - 1, failed.get());
+        assertEquals(1, notifications.get());
+        assertEquals(TERMINATED, negotiation.getState());
+    }
+
+    @Test
+    void verifyJournalRecordsTransitions() {
+        TransitionJournal.received("ContractRequestMessage", () -> negotiation.setCorrelationId(randomUUID().toString(), REQUESTED));
+        negotiation.transition(TERMINATED);
+
+        var entries = negotiation.getJournal().getEntries();
+
+        assertEquals(2, entries.size());
+        assertEquals("INITIALIZED", entries.get(0).from());
+        assertEquals("REQUESTED", entries.get(0).to());
+        assertEquals("ContractRequestMessage", entries.get(0).messageType());
+        assertEquals(Thread.currentThread().getName(), entries.get(0).thread());
+        assertEquals("TERMINATED", entries.get(1).to());
+        assertNull(entries.get(1).messageType());
+        assertTrue(entries.get(1).offsetNanos() >= entries.get(0).offsetNanos());
+        assertEquals("ContractNegotiation/Consumer", negotiation.getJournal().getProcess());
+        var key = new TransitionStatistics.TransitionKey("ContractNegotiation/Consumer", "INITIALIZED", "REQUESTED");
+        assertTrue(TransitionJournal.getStatistics().getTransitions().get(key).getCount() >= 1);
+    }
+
+    @Test
+    void verifyJournalRecordsTargetStatistics() {
+        var target = "target-" + randomUUID();
+        var targeted = ContractNegotiation.Builder.newInstance()
+                .negotiationKind(ContractNegotiation.NegotiationKind.Provider)
+                .statistics(TransitionJournal.getStatistics(target))
+                .build();
+
+        targeted.transition(TERMINATED);
+
+        var key = new TransitionStatistics.TransitionKey("ContractNegotiation/Provider", "INITIALIZED", "TERMINATED");
+        assertEquals(1, TransitionJournal.getStatistics(target).getTransitions().get(key).getCount());
+        assertTrue(TransitionJournal.getTargetStatistics().containsKey(target));
+    }
+
+    @Test
+    void verifyJournalKeepsSequenceOrder() {
+        var journal = new TransitionJournal("ContractNegotiation/Test");
+
+        journal.append(2, REQUESTED, TERMINATED);
+        assertTrue(journal.getEntries().isEmpty());
+
+        journal.append(1, INITIALIZED, REQUESTED);
+        var entries = journal.getEntries();
+
+        assertEquals(2, entries.size());
+        assertEquals("REQUESTED", entries.get(0).to());
+        assertEquals("TERMINATED", entries.get(1).to());
+    }
+
+    @Test
+    void verifyAwaitStateCompletedByTransition() {
+        var future = negotiation.awaitState(REQUESTED, Duration.ofSeconds(10));
+        assertFalse(future.isDone());
+
+        negotiation.setCorrelationId(randomUUID().toString(), REQUESTED);
+
+        assertTrue(future.isDone());
+        assertEquals(negotiation, future.join());
+        assertTrue(negotiation.awaitState(REQUESTED, Duration.ofSeconds(10)).isDone());
+    }
+
+    @Test
+    void verifyAwaitStateTimesOut() {
+        var future = negotiation.awaitState(TERMINATED, Duration.ofMillis(10));
+
+        var exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
     }
 
     @BeforeEach
@@ -14,9 +14,14 @@
 
 package org.eclipse.dataspacetck.dsp.system.api.statemachine;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.COMPLETED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
@@ -24,10 +29,75 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.SUSPENDED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.TERMINATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TransferProcessTest {
 
+    @Test
+    void verifySnapshotReflectsChanges() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString()).build();
+        var initial = transferProcess.getSnapshot();
+        assertNotNull(initial.createdAt());
+        assertEquals(initial.createdAt(), initial.updatedAt());
+
+        var correlationId = randomUUID().toString();
+        var dataAddress = new TransferProcess.DataAddress("type", "endpoint", Map.of());
+        transferProcess.setCorrelationId(correlationId);
+        transferProcess.transition(REQUESTED);
+        transferProcess.setDataAddress(dataAddress);
+        var snapshot = transferProcess.getSnapshot();
+
+        assertEquals(REQUESTED, snapshot.state());
+        assertEquals(correlationId, snapshot.correlationId());
+        assertEquals(dataAddress, snapshot.dataAddress());
+        assertEquals(initial.createdAt(), snapshot.createdAt());
+        assertFalse(snapshot.updatedAt().isBefore(initial.updatedAt()));
+        assertEquals(TransferProcess.State.INITIALIZED, initial.state());
+    }
+
+    @Test
+    void verifyValuesStoredWithTransition() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString()).build();
+        var correlationId = randomUUID().toString();
+        var dataAddress = new TransferProcess.DataAddress("type", "endpoint", Map.of());
+
+        transferProcess.setCorrelationId(correlationId, REQUESTED);
+        transferProcess.storeDataAddress(dataAddress, STARTED, tp -> assertEquals(STARTED, tp.getState()));
+
+        var snapshot = transferProcess.getSnapshot();
+        assertEquals(STARTED, snapshot.state());
+        assertEquals(correlationId, snapshot.correlationId());
+        assertEquals(dataAddress, snapshot.dataAddress());
+    }
+
+    @Test
+    void verifyIllegalTransitionDoesNotStoreValues() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString()).build();
+        var dataAddress = new TransferProcess.DataAddress("type", "endpoint", Map.of());
+
+        assertThrows(IllegalStateException.class, () -> transferProcess.storeDataAddress(dataAddress, STARTED, tp -> {
+        }));
+
+        assertNull(transferProcess.getDataAddress());
+        assertEquals(TransferProcess.State.INITIALIZED, transferProcess.getState());
+    }
+
+    @Test
+    void verifyAwaitStateCompletedByTransitionOnOtherThread() {
+        var transferProcess = TransferProcess.Builder.newInstance().agreementId(randomUUID().toString()).correlationId(randomUUID().toString()).build();
+        var future = transferProcess.awaitState(STARTED, Duration.ofSeconds(10));
+
+        CompletableFuture.runAsync(() -> {
+            transferProcess.transition(REQUESTED);
+            transferProcess.transition(STARTED);
+        });
+
+        assertEquals(STARTED, future.join().getState());
+    }
+
     @ParameterizedTest
     @EnumSource(value = TransferProcess.State.class, names = {"REQUESTED"})
     void verifyValidInitialStateTransitions(TransferProcess.State state) {
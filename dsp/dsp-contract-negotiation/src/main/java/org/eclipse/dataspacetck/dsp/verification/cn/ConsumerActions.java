@@ -16,16 +16,16 @@ package org.eclipse.dataspacetck.dsp.verification.cn;
 
 import okhttp3.Response;
 import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
+import org.eclipse.dataspacetck.dsp.system.api.message.typed.ContractAgreementVerificationMessage;
+import org.eclipse.dataspacetck.dsp.system.api.message.typed.ContractNegotiationEventMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAcceptedEvent;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createVerification;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
@@ -59,7 +59,7 @@ public class ConsumerActions {
     public static void postAccepted(String baseUrl, ContractNegotiation negotiation) {
         negotiation.transition(ACCEPTED);
         var url = format(EVENT_PATH, baseUrl, negotiation.getCorrelationId());
-        var agreement = createAcceptedEvent(negotiation.getCorrelationId(), negotiation.getId());
+        var agreement = new ContractNegotiationEventMessage(negotiation.getCorrelationId(), negotiation.getId(), "ACCEPTED");
         try (var response = postJson(url, agreement)) {
             checkResponse(response);
         }
@@ -92,7 +92,7 @@ public class ConsumerActions {
     public static void postVerification(String baseUrl, ContractNegotiation negotiation) {
         negotiation.transition(VERIFIED);
         var url = format(VERIFICATION_PATH, baseUrl, negotiation.getCorrelationId());
-        var verification = createVerification(negotiation.getCorrelationId(), negotiation.getId());
+        var verification = new ContractAgreementVerificationMessage(negotiation.getCorrelationId(), negotiation.getId());
         try (var response = postJson(url, verification)) {
             checkResponse(response);
         }
@@ -16,6 +16,7 @@
 package org.eclipse.dataspacetck.dsp.verification.cn;
 
 import okhttp3.Response;
+import org.eclipse.dataspacetck.dsp.system.api.message.typed.ContractNegotiationEventMessage;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 
 import static java.lang.String.format;
@@ -23,7 +24,6 @@ import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
-import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createFinalizedEvent;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createOffer;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
@@ -75,7 +75,7 @@ public class ProviderActions {
 
     public static void postFinalized(ContractNegotiation negotiation) {
         negotiation.transition(FINALIZED);
-        var event = createFinalizedEvent(negotiation.getId(), negotiation.getCorrelationId());
+        var event = new ContractNegotiationEventMessage(negotiation.getId(), negotiation.getCorrelationId(), "FINALIZED");
         try (var response = postJson(format(NEGOTIATION_FINALIZE_TEMPLATE, negotiation.getCallbackAddress(), negotiation.getCorrelationId()), event)) {
             checkResponse(response);
         }
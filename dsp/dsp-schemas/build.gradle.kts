@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+// The DSP JSON schemas, bundled once for all test modules. The index maps the $id of every schema to its classpath resource so
+// that schema references resolve without probing the classpath. The build fails if a schema has no $id, an $id outside the DSP
+// namespace, or the same $id as another schema.
+
+val schemaNamespace = "https://w3id.org/dspace/2025/1/"
+val schemaSources = layout.projectDirectory.dir("src/main/resources")
+
+val schemaIndex by tasks.registering {
+    val schemas = fileTree(schemaSources) { include("**/*-schema.json") }
+    val output = layout.buildDirectory.dir("generated/schema-index")
+    inputs.files(schemas)
+    outputs.dir(output)
+    doLast {
+        val root = schemaSources.asFile
+        val ids = sortedMapOf<String, String>()
+        schemas.files.sortedBy { it.invariantSeparatorsPath }.forEach { file ->
+            val resource = file.relativeTo(root).invariantSeparatorsPath
+            val id = (groovy.json.JsonSlurper().parse(file) as Map<*, *>)["\$id"] as? String
+                ?: throw GradleException("Schema $resource has no \$id")
+            if (!id.startsWith(schemaNamespace)) {
+                throw GradleException("Schema $resource has \$id $id outside of $schemaNamespace")
+            }
+            ids.put(id, resource)?.let { throw GradleException("Schemas $it and $resource have the same \$id $id") }
+        }
+        val lines = ids.map { (id, resource) -> id.replace(":", "\\:") + "=" + resource }
+        val index = output.get().file("dsp-schemas/index.properties").asFile
+        index.parentFile.mkdirs()
+        index.writeText(lines.joinToString("\n", postfix = "\n"))
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir(schemaIndex)
+    }
+}
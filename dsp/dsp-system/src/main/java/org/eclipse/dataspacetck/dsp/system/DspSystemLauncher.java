@@ -15,6 +15,10 @@
 
 package org.eclipse.dataspacetck.dsp.system;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
@@ -25,7 +29,13 @@ import org.eclipse.dataspacetck.dsp.system.api.client.catalog.CatalogClient;
 import org.eclipse.dataspacetck.dsp.system.api.client.metadata.MetadataClient;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Consumer;
+import org.eclipse.dataspacetck.dsp.system.api.http.CachingTokenProvider;
 import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.http.ResponseCache;
+import org.eclipse.dataspacetck.dsp.system.api.http.RetryPolicy;
+import org.eclipse.dataspacetck.dsp.system.api.http.TokenProvider;
+import org.eclipse.dataspacetck.dsp.system.api.message.DeferredValidation;
+import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ConsumerNegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.mock.ProviderNegotiationMock;
 import org.eclipse.dataspacetck.dsp.system.api.mock.tp.ConsumerTransferProcessMock;
@@ -34,6 +44,7 @@ import org.eclipse.dataspacetck.dsp.system.api.pipeline.ConsumerNegotiationPipel
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.ProviderNegotiationPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.tp.ConsumerTransferProcessPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.tp.ProviderTransferProcessPipeline;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
 import org.eclipse.dataspacetck.dsp.system.client.catalog.http.HttpCatalogClient;
 import org.eclipse.dataspacetck.dsp.system.client.catalog.local.LocalCatalogClient;
 import org.eclipse.dataspacetck.dsp.system.client.cn.ConsumerNegotiationClient;
@@ -50,6 +61,7 @@ import org.eclipse.dataspacetck.dsp.system.client.tp.http.HttpConsumerTransferPr
 import org.eclipse.dataspacetck.dsp.system.client.tp.http.HttpProviderTransferProcessClient;
 import org.eclipse.dataspacetck.dsp.system.client.tp.local.LocalConsumerTransferProcessClient;
 import org.eclipse.dataspacetck.dsp.system.client.tp.local.LocalProviderTransferProcessClient;
+import org.eclipse.dataspacetck.dsp.system.connector.ProcessEventBus;
 import org.eclipse.dataspacetck.dsp.system.connector.TckConnector;
 import org.eclipse.dataspacetck.dsp.system.mock.ConsumerNegotiationMockImpl;
 import org.eclipse.dataspacetck.dsp.system.mock.NoOpConsumerNegotiationMock;
@@ -65,12 +77,16 @@ import org.eclipse.dataspacetck.dsp.system.pipeline.tp.ConsumerTransferProcessPi
 import org.eclipse.dataspacetck.dsp.system.pipeline.tp.ProviderTransferProcessPipelineImpl;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.DEFAULT_MAX_MESSAGE_SIZE;
 
 /**
  * Instantiates and bootstraps a DSP test fixture.
@@ -81,12 +97,57 @@ public class DspSystemLauncher implements SystemLauncher {
     private static final String CONNECTOR_AGENT_ID_CONFIG = TCK_PREFIX + ".dsp.connector.agent.id";
     private static final String CONNECTOR_PROTOCOL_URL_CONFIG = TCK_PREFIX + ".dsp.connector.http.url";
     private static final String CONNECTOR_BASE_URL_CONFIG = TCK_PREFIX + ".dsp.connector.http.base.url";
+    private static final String TARGET_NAME_CONFIG = TCK_PREFIX + ".dsp.target.name";
     private static final String CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG = TCK_PREFIX + ".dsp.connector.http.headers.authorization";
+    private static final String CONNECTOR_AUTHORIZATION_PROVIDER_CONFIG = CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG + ".provider";
+    private static final String CONNECTOR_AUTHORIZATION_TTL_CONFIG = CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG + ".ttl";
+    private static final String CONNECTOR_AUTHORIZATION_REFRESH_AHEAD_CONFIG = CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG + ".refresh.ahead";
+    private static final String CONNECTOR_AUTHORIZATION_TIMEOUT_CONFIG = CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG + ".timeout";
     private static final String CONNECTOR_INITIATE_URL_CONFIG = TCK_PREFIX + ".dsp.connector.negotiation.initiate.url";
     private static final String CONNECTOR_TRANSFER_INITIATE_URL_CONFIG = TCK_PREFIX + ".dsp.connector.transfer.initiate.url";
     private static final String THREAD_POOL_CONFIG = TCK_PREFIX + ".dsp.thread.pool";
     private static final String DEFAULT_WAIT_CONFIG = TCK_PREFIX + ".dsp.default.wait";
+    private static final String HTTP_POOL_MAX_IDLE_CONFIG = TCK_PREFIX + ".dsp.http.pool.max.idle";
+    private static final String HTTP_POOL_KEEP_ALIVE_CONFIG = TCK_PREFIX + ".dsp.http.pool.keep.alive";
+    private static final String HTTP_MAX_REQUESTS_CONFIG = TCK_PREFIX + ".dsp.http.max.requests";
+    private static final String HTTP_MAX_REQUESTS_PER_HOST_CONFIG = TCK_PREFIX + ".dsp.http.max.requests.per.host";
+    private static final String HTTP_CACHE_MAX_BYTES_CONFIG = TCK_PREFIX + ".dsp.http.cache.max.bytes";
+    private static final String HTTP_CACHE_MAX_ENTRIES_CONFIG = TCK_PREFIX + ".dsp.http.cache.max.entries";
+    private static final String HTTP_CACHE_MAX_ENTRY_BYTES_CONFIG = TCK_PREFIX + ".dsp.http.cache.max.entry.bytes";
+    private static final String MESSAGE_MAX_SIZE_CONFIG = TCK_PREFIX + ".dsp.message.max.size";
+    private static final String MESSAGE_TEMPLATES_CONFIG = TCK_PREFIX + ".dsp.message.templates";
+    private static final String MESSAGE_TEMPLATES_SHADOW_RATE_CONFIG = TCK_PREFIX + ".dsp.message.templates.shadow.rate";
+    private static final String VALIDATION_DEFERRED_CONFIG = TCK_PREFIX + ".dsp.validation.deferred";
+    private static final String VALIDATION_THREADS_CONFIG = TCK_PREFIX + ".dsp.validation.threads";
+    private static final String EVENTS_THREADS_CONFIG = TCK_PREFIX + ".dsp.events.threads";
+    private static final String EVENTS_QUEUE_CAPACITY_CONFIG = TCK_PREFIX + ".dsp.events.queue.capacity";
+    private static final String HTTP_RETRY_POLICY_CONFIG = TCK_PREFIX + ".dsp.http.retry.policy";
+    private static final String HTTP_RETRY_MAX_ATTEMPTS_CONFIG = TCK_PREFIX + ".dsp.http.retry.max.attempts";
+    private static final String HTTP_RETRY_DELAY_CONFIG = TCK_PREFIX + ".dsp.http.retry.delay";
+    private static final String HTTP_RETRY_JITTER_CONFIG = TCK_PREFIX + ".dsp.http.retry.jitter";
+    private static final String HTTP_RETRY_AFTER_CONFIG = TCK_PREFIX + ".dsp.http.retry.after";
+    private static final String HTTP_RETRY_MAX_DELAY_CONFIG = TCK_PREFIX + ".dsp.http.retry.max.delay";
+    private static final String HTTP_RETRY_BUDGET_CONFIG = TCK_PREFIX + ".dsp.http.retry.budget";
     private static final int DEFAULT_WAIT_SECONDS = 15;
+    private static final int DEFAULT_HTTP_POOL_MAX_IDLE = 10;
+    private static final long DEFAULT_HTTP_POOL_KEEP_ALIVE_SECONDS = 300;
+    private static final int DEFAULT_HTTP_MAX_REQUESTS = 64;
+    private static final int DEFAULT_HTTP_MAX_REQUESTS_PER_HOST = 10;
+    private static final String DEFAULT_HTTP_RETRY_POLICY = "exponential";
+    private static final long DEFAULT_HTTP_CACHE_MAX_BYTES = 16 * 1024 * 1024;
+    private static final int DEFAULT_HTTP_CACHE_MAX_ENTRIES = 256;
+    private static final long DEFAULT_HTTP_CACHE_MAX_ENTRY_BYTES = 1024 * 1024;
+    private static final int DEFAULT_VALIDATION_THREADS = 2;
+    private static final int DEFAULT_EVENTS_THREADS = 4;
+    private static final long DEFAULT_AUTHORIZATION_TTL_SECONDS = 300;
+    private static final long DEFAULT_AUTHORIZATION_REFRESH_AHEAD_SECONDS = 30;
+    private static final long DEFAULT_AUTHORIZATION_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_HTTP_RETRY_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_HTTP_RETRY_DELAY_MILLIS = 200;
+    private static final long DEFAULT_HTTP_RETRY_MAX_DELAY_MILLIS = 10000;
+    private static final Object SHARED_STATE_LOCK = new Object();
+    private static int activeLaunchers;
+    private static OkHttpClient sharedHttpClient;
     private final Map<String, Connector> consumerConnectors = new ConcurrentHashMap<>();
     private final Map<String, Connector> providerConnectors = new ConcurrentHashMap<>();
     private final Map<String, ProviderNegotiationMock> negotiationMocks = new ConcurrentHashMap<>();
@@ -102,6 +163,12 @@ public class DspSystemLauncher implements SystemLauncher {
 
     private Monitor monitor;
     private ExecutorService executor;
+    private ExecutorService eventExecutor;
+    private int eventQueueCapacity = ProcessEventBus.DEFAULT_CAPACITY;
+    private boolean sharedStateAcquired;
+    private String targetName;
+    private CachingTokenProvider tokenProvider;
+    private Interceptor authorizationInterceptor;
     private String connectorUnderTestId = "ANONYMOUS";
     private String connectorProtocolUrl;
     private String connectorBaseUrl;
@@ -116,6 +183,11 @@ public class DspSystemLauncher implements SystemLauncher {
         this.monitor = configuration.getMonitor();
         waitTime = configuration.getPropertyAsLong(DEFAULT_WAIT_CONFIG, DEFAULT_WAIT_SECONDS);
         executor = newFixedThreadPool(configuration.getPropertyAsInt(THREAD_POOL_CONFIG, 10));
+        eventExecutor = newFixedThreadPool(configuration.getPropertyAsInt(EVENTS_THREADS_CONFIG, DEFAULT_EVENTS_THREADS));
+        eventQueueCapacity = configuration.getPropertyAsInt(EVENTS_QUEUE_CAPACITY_CONFIG, ProcessEventBus.DEFAULT_CAPACITY);
+        acquireSharedState(configuration);
+        sharedStateAcquired = true;
+        targetName = configuration.getPropertyAsString(TARGET_NAME_CONFIG, null);
         useLocalConnector = configuration.getPropertyAsBoolean(LOCAL_CONNECTOR_CONFIG, false);
         if (!useLocalConnector) {
             connectorProtocolUrl = configuration.getPropertyAsString(CONNECTOR_PROTOCOL_URL_CONFIG, null);
@@ -127,9 +199,6 @@ public class DspSystemLauncher implements SystemLauncher {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_BASE_URL_CONFIG);
             }
             baseAuthorizationHeader = configuration.getPropertyAsString(CONNECTOR_BASE_AUTHORIZATION_HEADER_CONFIG, null);
-            if (baseAuthorizationHeader != null) {
-                HttpFunctions.registerAuthorizationInterceptor(baseAuthorizationHeader);
-            }
             connectorInitiateUrl = configuration.getPropertyAsString(CONNECTOR_INITIATE_URL_CONFIG, null);
             if (connectorInitiateUrl == null) {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_INITIATE_URL_CONFIG);
@@ -142,6 +211,7 @@ public class DspSystemLauncher implements SystemLauncher {
             if (connectorUnderTestId == null) {
                 throw new RuntimeException("Required configuration not set: " + CONNECTOR_AGENT_ID_CONFIG);
             }
+            registerAuthorization(configuration);
         }
     }
 
@@ -150,6 +220,16 @@ public class DspSystemLauncher implements SystemLauncher {
         if (executor != null) {
             executor.shutdownNow();
         }
+        if (eventExecutor != null) {
+            eventExecutor.shutdownNow();
+        }
+        if (tokenProvider != null) {
+            tokenProvider.close();
+        }
+        if (sharedStateAcquired) {
+            sharedStateAcquired = false;
+            releaseSharedState();
+        }
     }
 
     public String getConnectorProtocolUrl() {
@@ -203,11 +283,131 @@ public class DspSystemLauncher implements SystemLauncher {
         return null;
     }
 
+    /**
+     * Creates and registers the shared HTTP client and applies the process-wide message settings when the first launcher starts.
+     * Launchers of a multi-target run share this state; the suite rejects target-specific overrides of these settings, so all
+     * targets are configured alike.
+     */
+    private static void acquireSharedState(SystemConfiguration configuration) {
+        synchronized (SHARED_STATE_LOCK) {
+            if (activeLaunchers++ == 0) {
+                MessageSerializer.setMaxMessageSize(configuration.getPropertyAsLong(MESSAGE_MAX_SIZE_CONFIG, DEFAULT_MAX_MESSAGE_SIZE));
+                MessageSerializer.setCompactionTemplates(configuration.getPropertyAsBoolean(MESSAGE_TEMPLATES_CONFIG, false),
+                        configuration.getPropertyAsInt(MESSAGE_TEMPLATES_SHADOW_RATE_CONFIG, 0));
+                DeferredValidation.configure(configuration.getPropertyAsBoolean(VALIDATION_DEFERRED_CONFIG, false),
+                        configuration.getPropertyAsInt(VALIDATION_THREADS_CONFIG, DEFAULT_VALIDATION_THREADS));
+                sharedHttpClient = createHttpClient(configuration);
+                HttpFunctions.registerHttpClient(sharedHttpClient);
+                HttpFunctions.registerRetryPolicy(createRetryPolicy(configuration));
+                var cacheMaxBytes = configuration.getPropertyAsLong(HTTP_CACHE_MAX_BYTES_CONFIG, DEFAULT_HTTP_CACHE_MAX_BYTES);
+                if (cacheMaxBytes > 0) {
+                    HttpFunctions.registerResponseCache(new ResponseCache(cacheMaxBytes,
+                            configuration.getPropertyAsLong(HTTP_CACHE_MAX_ENTRY_BYTES_CONFIG, DEFAULT_HTTP_CACHE_MAX_ENTRY_BYTES),
+                            configuration.getPropertyAsInt(HTTP_CACHE_MAX_ENTRIES_CONFIG, DEFAULT_HTTP_CACHE_MAX_ENTRIES)));
+                }
+            }
+        }
+    }
+
+    private static void releaseSharedState() {
+        synchronized (SHARED_STATE_LOCK) {
+            if (--activeLaunchers == 0) {
+                HttpFunctions.registerHttpClient(null);
+                HttpFunctions.registerRetryPolicy(null);
+                HttpFunctions.registerResponseCache(null);
+                sharedHttpClient.dispatcher().executorService().shutdown();
+                sharedHttpClient.connectionPool().evictAll();
+                sharedHttpClient = null;
+            }
+        }
+    }
+
+    private static OkHttpClient createHttpClient(SystemConfiguration configuration) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(configuration.getPropertyAsInt(HTTP_MAX_REQUESTS_CONFIG, DEFAULT_HTTP_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(configuration.getPropertyAsInt(HTTP_MAX_REQUESTS_PER_HOST_CONFIG, DEFAULT_HTTP_MAX_REQUESTS_PER_HOST));
+        var connectionPool = new ConnectionPool(configuration.getPropertyAsInt(HTTP_POOL_MAX_IDLE_CONFIG, DEFAULT_HTTP_POOL_MAX_IDLE),
+                configuration.getPropertyAsLong(HTTP_POOL_KEEP_ALIVE_CONFIG, DEFAULT_HTTP_POOL_KEEP_ALIVE_SECONDS),
+                TimeUnit.SECONDS);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .build();
+    }
+
+    /**
+     * Creates the authorization header for requests to the connector under test. The interceptor is passed to this launcher's
+     * clients, so every target of a multi-target run sends its own credentials, including to callback addresses. It is also
+     * registered globally when a single connector is verified.
+     */
+    private void registerAuthorization(SystemConfiguration configuration) {
+        Supplier<String> authorization = null;
+        var authorizationProvider = configuration.getPropertyAsString(CONNECTOR_AUTHORIZATION_PROVIDER_CONFIG, null);
+        if (authorizationProvider != null) {
+            tokenProvider = createTokenProvider(authorizationProvider, configuration);
+            authorization = tokenProvider;
+        } else if (baseAuthorizationHeader != null) {
+            var header = baseAuthorizationHeader;
+            authorization = () -> header;
+        }
+        if (authorization == null) {
+            return;
+        }
+        authorizationInterceptor = HttpFunctions.createAuthorizationInterceptor(authorization);
+        if (targetName == null) {
+            HttpFunctions.registerAuthorizationInterceptor(authorization);
+        }
+    }
+
+    /**
+     * Instantiates the configured {@link TokenProvider} or {@code Supplier<String>} class and wraps it in a cache.
+     */
+    private CachingTokenProvider createTokenProvider(String className, SystemConfiguration configuration) {
+        TokenProvider provider;
+        try {
+            var instance = Class.forName(className).getDeclaredConstructor().newInstance();
+            if (instance instanceof TokenProvider candidate) {
+                provider = candidate;
+            } else if (instance instanceof Supplier<?> supplier) {
+                provider = () -> new TokenProvider.Token(String.valueOf(supplier.get()), null);
+            } else {
+                throw new IllegalArgumentException("Authorization provider must implement TokenProvider or Supplier: " + className);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to create authorization provider: " + className, e);
+        }
+        var ttl = Duration.ofSeconds(configuration.getPropertyAsLong(CONNECTOR_AUTHORIZATION_TTL_CONFIG, DEFAULT_AUTHORIZATION_TTL_SECONDS));
+        var refreshAhead = Duration.ofSeconds(configuration.getPropertyAsLong(CONNECTOR_AUTHORIZATION_REFRESH_AHEAD_CONFIG,
+                DEFAULT_AUTHORIZATION_REFRESH_AHEAD_SECONDS));
+        var timeout = Duration.ofSeconds(configuration.getPropertyAsLong(CONNECTOR_AUTHORIZATION_TIMEOUT_CONFIG, DEFAULT_AUTHORIZATION_TIMEOUT_SECONDS));
+        return new CachingTokenProvider(provider, ttl, refreshAhead, timeout,
+                e -> monitor.message("Refreshing the authorization header failed, using the current one: " + e.getMessage()));
+    }
+
+    private static RetryPolicy createRetryPolicy(SystemConfiguration configuration) {
+        var maxAttempts = configuration.getPropertyAsInt(HTTP_RETRY_MAX_ATTEMPTS_CONFIG, DEFAULT_HTTP_RETRY_MAX_ATTEMPTS);
+        var delay = Duration.ofMillis(configuration.getPropertyAsLong(HTTP_RETRY_DELAY_CONFIG, DEFAULT_HTTP_RETRY_DELAY_MILLIS));
+        var name = configuration.getPropertyAsString(HTTP_RETRY_POLICY_CONFIG, DEFAULT_HTTP_RETRY_POLICY);
+        var policy = switch (name) {
+            case "none" -> RetryPolicy.none();
+            case "fixed" -> RetryPolicy.fixed(maxAttempts, delay);
+            case "exponential" -> RetryPolicy.exponential(maxAttempts, delay,
+                    Double.parseDouble(configuration.getPropertyAsString(HTTP_RETRY_JITTER_CONFIG, "0")));
+            default -> throw new IllegalArgumentException("Invalid retry policy: " + name);
+        };
+        if (configuration.getPropertyAsBoolean(HTTP_RETRY_AFTER_CONFIG, false)) {
+            var maxDelay = Duration.ofMillis(configuration.getPropertyAsLong(HTTP_RETRY_MAX_DELAY_CONFIG, DEFAULT_HTTP_RETRY_MAX_DELAY_MILLIS));
+            policy = RetryPolicy.retryAfter(policy, maxDelay);
+        }
+        var budget = configuration.getPropertyAsInt(HTTP_RETRY_BUDGET_CONFIG, -1);
+        return budget >= 0 ? RetryPolicy.budget(policy, budget) : policy;
+    }
+
     private <T> T createProviderPipeline(Class<T> type, ServiceConfiguration configuration, ServiceResolver resolver) {
         var scopeId = configuration.getScopeId();
         var negotiationClient = createNegotiationClient(scopeId);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> newConnector());
         var pipeline = new ProviderNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
                 consumerConnector,
@@ -222,7 +422,7 @@ public class DspSystemLauncher implements SystemLauncher {
         var scopeId = configuration.getScopeId();
         var negotiationClient = createConsumerNegotiationClient(scopeId, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> newConnector());
         var pipeline = new ConsumerNegotiationPipelineImpl(negotiationClient,
                 callbackEndpoint,
                 providerConnector,
@@ -235,7 +435,7 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createProviderNegotiationMock(Class<T> type, String scopeId) {
         return type.cast(negotiationMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 return new ProviderNegotiationMockImpl(connector.getProviderNegotiationManager(), executor);
             } else {
                 return new NoOpProviderNegotiationMock();
@@ -246,7 +446,7 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createConsumerNegotiationMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return type.cast(consumerNegotiationMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 var negotiationManager = connector.getConsumerNegotiationManager();
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
@@ -260,17 +460,26 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createConnector(Class<T> type, ServiceConfiguration configuration) {
         var scopeId = configuration.getScopeId();
         if (configuration.getAnnotations().stream().anyMatch(a -> a.annotationType().equals(Consumer.class))) {
-            return type.cast(consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+            return type.cast(consumerConnectors.computeIfAbsent(scopeId, k -> newConnector()));
         }
-        return type.cast(providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor)));
+        return type.cast(providerConnectors.computeIfAbsent(scopeId, k -> newConnector()));
+    }
+
+    /**
+     * Creates a connector with its own event bus. Listener events are dispatched on the shared event executor. In a multi-target
+     * run, transition latencies are recorded per target.
+     */
+    private TckConnector newConnector() {
+        var statistics = targetName == null ? TransitionJournal.getStatistics() : TransitionJournal.getStatistics(targetName);
+        return new TckConnector(monitor, new ProcessEventBus(eventExecutor, eventQueueCapacity, monitor), statistics);
     }
 
     private ProviderNegotiationClient createNegotiationClient(String scopeId) {
         return negotiationClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                return new LocalProviderNegotiationClientImpl(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+                return new LocalProviderNegotiationClientImpl(providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector()));
             }
-            return new HttpProviderNegotiationClientImpl(connectorProtocolUrl, monitor);
+            return new HttpProviderNegotiationClientImpl(connectorProtocolUrl, monitor, authorizationInterceptor);
         });
     }
 
@@ -279,7 +488,7 @@ public class DspSystemLauncher implements SystemLauncher {
                                                                       ServiceResolver resolver) {
         return consumerNegotiationClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 return new LocalConsumerNegotiationClientImpl(consumerConnector);
             }
             var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
@@ -287,7 +496,8 @@ public class DspSystemLauncher implements SystemLauncher {
             return new HttpConsumerNegotiationClientImpl(
                     connectorInitiateUrl,
                     callbackEndpoint.getAddress(),
-                    monitor);
+                    monitor,
+                    authorizationInterceptor);
         });
     }
 
@@ -295,7 +505,7 @@ public class DspSystemLauncher implements SystemLauncher {
         var scopeId = configuration.getScopeId();
         var transferClient = createConsumerTransferProcessClientClient(scopeId, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> newConnector());
         return new ConsumerTransferProcessPipelineImpl(transferClient,
                 callbackEndpoint,
                 providerConnector,
@@ -308,7 +518,7 @@ public class DspSystemLauncher implements SystemLauncher {
         var scopeId = configuration.getScopeId();
         var negotiationClient = createProviderTransferProcessClientClient(scopeId, configuration, resolver);
         var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
-        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k -> newConnector());
         return new ProviderTransferProcessPipelineImpl(negotiationClient,
                 callbackEndpoint,
                 consumerConnector,
@@ -321,10 +531,10 @@ public class DspSystemLauncher implements SystemLauncher {
     private ConsumerTransferProcessClient createConsumerTransferProcessClientClient(String scopeId,
                                                                                     ServiceConfiguration configuration,
                                                                                     ServiceResolver resolver) {
-        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> new TckConnector(monitor));
+        var providerConnector = providerConnectors.computeIfAbsent(scopeId, k -> newConnector());
         return consumerTransferClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var consumerConnector = consumerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 return new LocalConsumerTransferProcessClient(consumerConnector);
             }
@@ -333,7 +543,8 @@ public class DspSystemLauncher implements SystemLauncher {
             return new HttpConsumerTransferProcessClient(
                     connectorTransferInitiateUrl,
                     callbackEndpoint.getAddress(),
-                    monitor);
+                    monitor,
+                    authorizationInterceptor);
         });
     }
 
@@ -341,16 +552,16 @@ public class DspSystemLauncher implements SystemLauncher {
                                                                                     ServiceConfiguration configuration, ServiceResolver resolver) {
         return providerTransferClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                return new LocalProviderTransferProcessClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+                return new LocalProviderTransferProcessClient(providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector()));
             }
-            return new HttpProviderTransferProcessClient(connectorProtocolUrl, monitor);
+            return new HttpProviderTransferProcessClient(connectorProtocolUrl, monitor, authorizationInterceptor);
         });
     }
 
     private <T> T createConsumerTransferProcessMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return type.cast(consumerTransferMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = consumerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 var manager = connector.getConsumerTransferProcessManager();
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
@@ -364,7 +575,7 @@ public class DspSystemLauncher implements SystemLauncher {
     private <T> T createProviderTransferProcessMock(Class<T> type, String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return type.cast(providerTransferMocks.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor));
+                var connector = providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector());
                 var manager = connector.getProviderTransferProcessManager();
                 var callbackEndpoint = (CallbackEndpoint) resolver.resolve(CallbackEndpoint.class, configuration);
                 @SuppressWarnings("DataFlowIssue") var address = callbackEndpoint.getAddress();
@@ -378,18 +589,18 @@ public class DspSystemLauncher implements SystemLauncher {
     private CatalogClient createCatalogClient(String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return providerCatalogClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                return new LocalCatalogClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+                return new LocalCatalogClient(providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector()));
             }
-            return new HttpCatalogClient(connectorProtocolUrl, monitor);
+            return new HttpCatalogClient(connectorProtocolUrl, monitor, authorizationInterceptor);
         });
     }
 
     private MetadataClient createMetadataClient(String scopeId, ServiceConfiguration configuration, ServiceResolver resolver) {
         return providerMetadataClients.computeIfAbsent(scopeId, k -> {
             if (useLocalConnector) {
-                return new LocalMetadataClient(providerConnectors.computeIfAbsent(scopeId, k2 -> new TckConnector(monitor)));
+                return new LocalMetadataClient(providerConnectors.computeIfAbsent(scopeId, k2 -> newConnector()));
             }
-            return new HttpMetadataClient(connectorBaseUrl, monitor);
+            return new HttpMetadataClient(connectorBaseUrl, monitor, authorizationInterceptor);
         });
     }
 }
@@ -17,12 +17,16 @@ package org.eclipse.dataspacetck.dsp.system.client.catalog.http;
 import okhttp3.Interceptor;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.client.catalog.CatalogClient;
+import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 
 /**
@@ -56,9 +60,28 @@ public class HttpCatalogClient implements CatalogClient {
 
     @Override
     public Map<String, Object> getDataset(String datasetId, boolean expectError) {
-        try (var response = getJson(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError, interceptor)) {
-            monitor.debug("Received dataset request response");
-            return expandAndDeserialize(response.body().byteStream());
-        }
+        var dataset = getJson(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError, interceptor, MessageSerializer::expandAndDeserialize);
+        monitor.debug("Received dataset request response");
+        return dataset;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getCatalogAsync(Map<String, Object> message, boolean expectError) {
+        return postJsonAsync(connectorUnderTestUrl + CATALOG_REQUEST_PATH, message, expectError, interceptor).thenApply(response -> {
+            try (response) {
+                monitor.debug("Received catalog request response");
+                return expandAndDeserialize(response.body().byteStream());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getDatasetAsync(String datasetId, boolean expectError) {
+        return getJsonAsync(connectorUnderTestUrl + format(DATASET_REQUEST_PATH, datasetId), expectError, interceptor).thenApply(response -> {
+            try (response) {
+                monitor.debug("Received dataset request response");
+                return expandAndDeserialize(response.body().byteStream());
+            }
+        });
     }
 }
@@ -15,6 +15,10 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.runCompleted;
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 /**
  * Proxy to the consumer connector being verified for contract negotiation.
@@ -45,4 +49,32 @@ public interface ConsumerNegotiationClient extends NegotiationClient {
      * Retrieves the negotiation from the provider.
      */
     Map<String, Object> getNegotiation(String consumerId, String callbackAddress);
+
+    /**
+     * Sends an offer to the consumer connector without blocking the caller.
+     */
+    default CompletableFuture<Void> contractOfferAsync(String consumerId, Map<String, Object> offer, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> contractOffer(consumerId, offer, callbackAddress, expectError));
+    }
+
+    /**
+     * Sends an agreement to the consumer connector without blocking the caller.
+     */
+    default CompletableFuture<Void> contractAgreementAsync(String consumerId, Map<String, Object> agreement, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> contractAgreement(consumerId, agreement, callbackAddress, expectError));
+    }
+
+    /**
+     * Sends the finalized event to the consumer connector without blocking the caller.
+     */
+    default CompletableFuture<Void> finalizeAsync(String consumerId, Map<String, Object> event, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> finalize(consumerId, event, callbackAddress, expectError));
+    }
+
+    /**
+     * Retrieves the negotiation from the consumer connector without blocking the caller.
+     */
+    default CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress) {
+        return supplyCompleted(() -> getNegotiation(consumerId, callbackAddress));
+    }
 }
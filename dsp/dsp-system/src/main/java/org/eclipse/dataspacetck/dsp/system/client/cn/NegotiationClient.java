@@ -15,11 +15,25 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.runCompleted;
+
+/**
+ * Base negotiation client. The asynchronous variants default to executing on the calling thread and returning a completed future;
+ * remote implementations override them to avoid blocking.
+ */
 public interface NegotiationClient {
 
     /**
      * Terminates the negotiation with the provider.
      */
     void terminate(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError);
+
+    /**
+     * Terminates the negotiation with the provider without blocking the caller.
+     */
+    default CompletableFuture<Void> terminateAsync(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> terminate(counterPartyId, termination, callbackAddress, expectError));
+    }
 }
@@ -15,6 +15,10 @@
 package org.eclipse.dataspacetck.dsp.system.client.cn;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.runCompleted;
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 /**
  * Proxy to the provider connector being verified for contract negotiation.
@@ -46,4 +50,39 @@ public interface ProviderNegotiationClient extends NegotiationClient {
      */
     Map<String, Object> getNegotiation(String processId);
 
+    /**
+     * Sends the contract request to the provider without blocking the caller.
+     */
+    default CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError) {
+        return supplyCompleted(() -> contractRequest(message, counterPartyId, expectError));
+    }
+
+    /**
+     * Sends a subsequent contract request to the provider without blocking the caller.
+     */
+    default CompletableFuture<Void> contractOfferRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError) {
+        return runCompleted(() -> contractOfferRequest(message, counterPartyId, expectError));
+    }
+
+    /**
+     * Sends the accepted event to the provider connector without blocking the caller.
+     */
+    default CompletableFuture<Void> acceptAsync(Map<String, Object> event) {
+        return runCompleted(() -> accept(event));
+    }
+
+    /**
+     * Sends the verified event to the provider connector without blocking the caller.
+     */
+    default CompletableFuture<Void> verifyAsync(Map<String, Object> event, boolean expectError) {
+        return runCompleted(() -> verify(event, expectError));
+    }
+
+    /**
+     * Retrieves the negotiation from the provider without blocking the caller.
+     */
+    default CompletableFuture<Map<String, Object>> getNegotiationAsync(String processId) {
+        return supplyCompleted(() -> getNegotiation(processId));
+    }
+
 }
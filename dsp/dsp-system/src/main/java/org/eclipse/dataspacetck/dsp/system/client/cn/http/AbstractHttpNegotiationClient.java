@@ -14,29 +14,48 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.cn.http;
 
+import okhttp3.Interceptor;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.cn.NegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 
 /**
  * Base negotiation client functionality.
  */
 public abstract class AbstractHttpNegotiationClient implements NegotiationClient {
     private static final String TERMINATE_PATH = "%s/negotiations/%s/termination";
+    protected final Interceptor interceptor;
     private final Monitor monitor;
 
     protected AbstractHttpNegotiationClient(Monitor monitor) {
+        this(monitor, null);
+    }
+
+    protected AbstractHttpNegotiationClient(Monitor monitor, Interceptor interceptor) {
         this.monitor = monitor;
+        this.interceptor = interceptor;
     }
 
     @Override
     public void terminate(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(TERMINATE_PATH, callbackAddress, counterPartyId), termination, expectError)) {
+        try (var response = postJson(format(TERMINATE_PATH, callbackAddress, counterPartyId), termination, expectError, interceptor)) {
             monitor.debug("Received negotiation terminate response: " + counterPartyId);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> terminateAsync(String counterPartyId, Map<String, Object> termination, String callbackAddress, boolean expectError) {
+        return postJsonAsync(format(TERMINATE_PATH, callbackAddress, counterPartyId), termination, expectError, interceptor)
+                .thenAccept(response -> {
+                    try (response) {
+                        monitor.debug("Received negotiation terminate response: " + counterPartyId);
+                    }
+                });
+    }
 }
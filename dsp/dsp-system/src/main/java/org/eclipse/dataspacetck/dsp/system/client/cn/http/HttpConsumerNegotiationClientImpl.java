@@ -14,14 +14,19 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.cn.http;
 
+import okhttp3.Interceptor;
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.cn.ConsumerNegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
@@ -44,7 +49,14 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
     public HttpConsumerNegotiationClientImpl(String consumerConnectorInitiateUrl,
                                              String providerConnectorBaseUrl,
                                              Monitor monitor) {
-        super(monitor);
+        this(consumerConnectorInitiateUrl, providerConnectorBaseUrl, monitor, null);
+    }
+
+    public HttpConsumerNegotiationClientImpl(String consumerConnectorInitiateUrl,
+                                             String providerConnectorBaseUrl,
+                                             Monitor monitor,
+                                             Interceptor interceptor) {
+        super(monitor, interceptor);
         this.consumerConnectorInitiateUrl = consumerConnectorInitiateUrl;
         this.providerConnectorBaseUrl = providerConnectorBaseUrl;
         this.monitor = monitor;
@@ -54,7 +66,7 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
     public void initiateRequest(String datasetId, String offerId) {
 
         var request = Map.of("providerId", TCK_PARTICIPANT_ID, "offerId", offerId, "datasetId", datasetId, "connectorAddress", providerConnectorBaseUrl);
-        try (var response = postJson(consumerConnectorInitiateUrl, request, false, true)) {
+        try (var response = postJson(consumerConnectorInitiateUrl, request, false, true, interceptor)) {
             monitor.debug("Received contract request response");
         }
 
@@ -62,7 +74,7 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public void contractOffer(String consumerId, Map<String, Object> offer, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError)) {
+        try (var response = postJson(format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError, interceptor)) {
             monitor.debug("Received contract request response");
             // TODO Validate response
             // processJsonLd(response.body().byteStream(), createDspContext());
@@ -71,7 +83,7 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public void contractAgreement(String consumerId, Map<String, Object> agreement, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, expectError)) {
+        try (var response = postJson(format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, expectError, interceptor)) {
             monitor.debug("Received contract agreement response");
             // TODO Validate response
             // processJsonLd(response.body().byteStream(), createDspContext());
@@ -80,7 +92,7 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public void finalize(String consumerId, Map<String, Object> event, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(FINALIZE_PATH, callbackAddress, consumerId), event, expectError)) {
+        try (var response = postJson(format(FINALIZE_PATH, callbackAddress, consumerId), event, expectError, interceptor)) {
             monitor.debug("Received contract finalize response");
             // TODO Validate response
             // processJsonLd(response.body().byteStream(), createDspContext());
@@ -89,13 +101,49 @@ public class HttpConsumerNegotiationClientImpl extends AbstractHttpNegotiationCl
 
     @Override
     public Map<String, Object> getNegotiation(String consumerId, String callbackAddress) {
-        try (var response = getJson(format(GET_PATH, callbackAddress, consumerId))) {
-            var jsonResponse = expandAndDeserialize(response.body().byteStream());
-            var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
-            var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
-            monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
-            return jsonResponse;
+        try (var response = getJson(format(GET_PATH, callbackAddress, consumerId), false, interceptor)) {
+            return toNegotiation(response);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> contractOfferAsync(String consumerId, Map<String, Object> offer, String callbackAddress, boolean expectError) {
+        return postAsync(format(OFFERS_PATH, callbackAddress, consumerId), offer, expectError, "Received contract request response");
+    }
+
+    @Override
+    public CompletableFuture<Void> contractAgreementAsync(String consumerId, Map<String, Object> agreement, String callbackAddress, boolean expectError) {
+        return postAsync(format(AGREEMENTS_PATH, callbackAddress, consumerId), agreement, expectError, "Received contract agreement response");
+    }
+
+    @Override
+    public CompletableFuture<Void> finalizeAsync(String consumerId, Map<String, Object> event, String callbackAddress, boolean expectError) {
+        return postAsync(format(FINALIZE_PATH, callbackAddress, consumerId), event, expectError, "Received contract finalize response");
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String consumerId, String callbackAddress) {
+        return getJsonAsync(format(GET_PATH, callbackAddress, consumerId), false, interceptor).thenApply(response -> {
+            try (response) {
+                return toNegotiation(response);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> postAsync(String url, Map<String, Object> message, boolean expectError, String debugMessage) {
+        return postJsonAsync(url, message, expectError, interceptor).thenAccept(response -> {
+            try (response) {
+                monitor.debug(debugMessage);
+            }
+        });
+    }
+
+    private Map<String, Object> toNegotiation(Response response) {
+        var jsonResponse = expandAndDeserialize(response.body().byteStream());
+        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
+        var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
+        monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
+        return jsonResponse;
+    }
+
 }
@@ -14,16 +14,20 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.cn.http;
 
+import okhttp3.Interceptor;
 import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.client.cn.ProviderNegotiationClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
@@ -46,57 +50,119 @@ public class HttpProviderNegotiationClientImpl extends AbstractHttpNegotiationCl
     private Connector systemConnector;
 
     public HttpProviderNegotiationClientImpl(String connectorBaseUrl, Monitor monitor) {
-        super(monitor);
+        this(connectorBaseUrl, monitor, null);
+    }
+
+    public HttpProviderNegotiationClientImpl(String connectorBaseUrl, Monitor monitor, Interceptor interceptor) {
+        super(monitor, interceptor);
         this.providerConnectorBaseUrl = connectorBaseUrl.endsWith("/") ? connectorBaseUrl : connectorBaseUrl + "/";
         this.monitor = monitor;
     }
 
     @Override
     public Map<String, Object> contractRequest(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
-        try (var response = postJson(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError)) {
+        try (var response = postJson(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError, interceptor)) {
             monitor.debug("Received contract request response");
             return expandAndDeserialize(response.body().byteStream());
         }
     }
 
+    @Override
+    public CompletableFuture<Map<String, Object>> contractRequestAsync(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
+        return postJsonAsync(providerConnectorBaseUrl + REQUEST_PATH, contractRequest, expectError, interceptor).thenApply(response -> {
+            try (response) {
+                monitor.debug("Received contract request response");
+                return expandAndDeserialize(response.body().byteStream());
+            }
+        });
+    }
+
     @Override
     public void contractOfferRequest(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
         var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, contractRequest);
-        try (var response = postJson(providerConnectorBaseUrl + format(REQUEST_OFFER_PATH, providerId), contractRequest, expectError)) {
+        try (var response = postJson(providerConnectorBaseUrl + format(REQUEST_OFFER_PATH, providerId), contractRequest, expectError, interceptor)) {
             monitor.debug("Received contract offer request response");
         }
     }
 
+    @Override
+    public CompletableFuture<Void> contractOfferRequestAsync(Map<String, Object> contractRequest, String counterPartyId, boolean expectError) {
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, contractRequest);
+        return postJsonAsync(providerConnectorBaseUrl + format(REQUEST_OFFER_PATH, providerId), contractRequest, expectError, interceptor).thenAccept(response -> {
+            try (response) {
+                monitor.debug("Received contract offer request response");
+            }
+        });
+    }
+
     @Override
     public void accept(Map<String, Object> event) {
         var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
-        try (var response = postJson(providerConnectorBaseUrl + format(EVENT_PATH, providerId), event)) {
-            if (!response.isSuccessful()) {
-                throw new AssertionError(format("Accept event failed with code %s: %s ", response.code(), providerId));
-            }
-            monitor.debug("Received accept response: " + providerId);
+        try (var response = postJson(providerConnectorBaseUrl + format(EVENT_PATH, providerId), event, false, interceptor)) {
+            validateAcceptResponse(response, providerId);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> acceptAsync(Map<String, Object> event) {
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
+        return postJsonAsync(providerConnectorBaseUrl + format(EVENT_PATH, providerId), event, false, interceptor).thenAccept(response -> {
+            try (response) {
+                validateAcceptResponse(response, providerId);
+            }
+        });
+    }
+
     @Override
     public void verify(Map<String, Object> event, boolean expectError) {
         var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
-        try (var response = postJson(providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError)) {
+        try (var response = postJson(providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError, interceptor)) {
             validateResponse(response, providerId, expectError, "verify");
             monitor.debug("Received verification response: " + providerId);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> verifyAsync(Map<String, Object> event, boolean expectError) {
+        var providerId = compactStringProperty(DSPACE_PROPERTY_PROVIDER_PID, event);
+        return postJsonAsync(providerConnectorBaseUrl + format(VERIFICATION_PATH, providerId), event, expectError, interceptor).thenAccept(response -> {
+            try (response) {
+                validateResponse(response, providerId, expectError, "verify");
+                monitor.debug("Received verification response: " + providerId);
+            }
+        });
+    }
+
     @Override
     public Map<String, Object> getNegotiation(String providerPid) {
-        try (var response = getJson(providerConnectorBaseUrl + format(GET_PATH, providerPid))) {
-            //noinspection DataFlowIssue
-            var jsonResponse = expandAndDeserialize(response.body().byteStream());
-            var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
-            var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
-            monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
-            return jsonResponse;
+        try (var response = getJson(providerConnectorBaseUrl + format(GET_PATH, providerPid), false, interceptor)) {
+            return toNegotiation(response);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getNegotiationAsync(String providerPid) {
+        return getJsonAsync(providerConnectorBaseUrl + format(GET_PATH, providerPid), false, interceptor).thenApply(response -> {
+            try (response) {
+                return toNegotiation(response);
+            }
+        });
+    }
+
+    private Map<String, Object> toNegotiation(Response response) {
+        //noinspection DataFlowIssue
+        var jsonResponse = expandAndDeserialize(response.body().byteStream());
+        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
+        var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
+        monitor.debug(format("Received negotiation status response with state %s: %s", state, providerId));
+        return jsonResponse;
+    }
+
+    private void validateAcceptResponse(Response response, String providerId) {
+        if (!response.isSuccessful()) {
+            throw new AssertionError(format("Accept event failed with code %s: %s ", response.code(), providerId));
         }
+        monitor.debug("Received accept response: " + providerId);
     }
 
     private void validateResponse(Response response, String providerId, boolean expectError, String type) {
@@ -14,29 +14,53 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.metadata.http;
 
+import okhttp3.Interceptor;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.client.metadata.MetadataClient;
 
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.deserialize;
 
 public class HttpMetadataClient implements MetadataClient {
     private static final String METADATA_REQUEST_PATH = "/.well-known/dspace-version";
     private final String baseConnectorUrl;
     private final Monitor monitor;
+    private final Interceptor interceptor;
 
     public HttpMetadataClient(String baseConnectorUrl, Monitor monitor) {
+        this(baseConnectorUrl, monitor, null);
+    }
+
+    public HttpMetadataClient(String baseConnectorUrl, Monitor monitor, Interceptor interceptor) {
         this.baseConnectorUrl = baseConnectorUrl;
         this.monitor = monitor;
+        this.interceptor = interceptor;
     }
 
     @Override
     public Map<String, Object> getMetadata() {
-        try (var response = getJson(baseConnectorUrl + METADATA_REQUEST_PATH)) {
-            monitor.debug("Received metadata  response");
-            return deserialize(response.body().byteStream(), Map.class);
-        }
+        var metadata = getJson(baseConnectorUrl + METADATA_REQUEST_PATH, false, interceptor, HttpMetadataClient::parseMetadata);
+        monitor.debug("Received metadata  response");
+        return metadata;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getMetadataAsync() {
+        return getJsonAsync(baseConnectorUrl + METADATA_REQUEST_PATH, false, interceptor).thenApply(response -> {
+            try (response) {
+                monitor.debug("Received metadata  response");
+                return parseMetadata(response.body().byteStream());
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parseMetadata(InputStream stream) {
+        return (Map<String, Object>) deserialize(stream, Map.class);
     }
 }
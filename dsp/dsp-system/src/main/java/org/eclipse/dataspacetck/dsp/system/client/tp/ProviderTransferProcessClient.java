@@ -15,6 +15,9 @@
 package org.eclipse.dataspacetck.dsp.system.client.tp;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 /**
  * Proxy to the provider connector being verified for transfer process.
@@ -26,4 +29,11 @@ public interface ProviderTransferProcessClient extends TransferProcessClient {
      */
     Map<String, Object> transferRequest(Map<String, Object> message, String counterPartyId, boolean expectError);
 
+    /**
+     * Sends a transfer request to the provider connector without blocking the caller.
+     */
+    default CompletableFuture<Map<String, Object>> transferRequestAsync(Map<String, Object> message, String counterPartyId, boolean expectError) {
+        return supplyCompleted(() -> transferRequest(message, counterPartyId, expectError));
+    }
+
 }
@@ -15,9 +15,16 @@
 package org.eclipse.dataspacetck.dsp.system.client.tp;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.runCompleted;
+import static org.eclipse.dataspacetck.dsp.system.api.service.AsyncFunctions.supplyCompleted;
 
 /**
  * Proxy to the provider connector being verified for transfer process.
+ * <p>
+ * The asynchronous variants default to executing on the calling thread and returning a completed future; remote implementations
+ * override them to avoid blocking.
  */
 public interface TransferProcessClient {
 
@@ -67,4 +74,39 @@ public interface TransferProcessClient {
      * Retrieves the transfer process from the counter-party connector.
      */
     Map<String, Object> getTransferProcess(String counterPartyPid, String callbackAddress);
+
+    /**
+     * Sends a transfer terminate message to the counter-party connector without blocking the caller.
+     */
+    default CompletableFuture<Void> terminateTransferAsync(String counterPartyPid, Map<String, Object> terminationMessage, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> terminateTransfer(counterPartyPid, terminationMessage, callbackAddress, expectError));
+    }
+
+    /**
+     * Sends a transfer complete message to the counter-party connector without blocking the caller.
+     */
+    default CompletableFuture<Void> completeTransferAsync(String counterPartyPid, Map<String, Object> completionMessage, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> completeTransfer(counterPartyPid, completionMessage, callbackAddress, expectError));
+    }
+
+    /**
+     * Sends a transfer suspension message to the counter-party connector without blocking the caller.
+     */
+    default CompletableFuture<Void> suspendTransferAsync(String counterPartyPid, Map<String, Object> suspensionMessage, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> suspendTransfer(counterPartyPid, suspensionMessage, callbackAddress, expectError));
+    }
+
+    /**
+     * Sends a transfer start message to the counter-party connector without blocking the caller.
+     */
+    default CompletableFuture<Void> startTransferAsync(String counterPartiPid, Map<String, Object> startMessage, String callbackAddress, boolean expectError) {
+        return runCompleted(() -> startTransfer(counterPartiPid, startMessage, callbackAddress, expectError));
+    }
+
+    /**
+     * Retrieves the transfer process from the counter-party connector without blocking the caller.
+     */
+    default CompletableFuture<Map<String, Object>> getTransferProcessAsync(String counterPartyPid, String callbackAddress) {
+        return supplyCompleted(() -> getTransferProcess(counterPartyPid, callbackAddress));
+    }
 }
@@ -14,15 +14,20 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.tp.http;
 
+import okhttp3.Interceptor;
+import okhttp3.Response;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.client.tp.TransferProcessClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.getJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
@@ -38,49 +43,96 @@ public abstract class AbstractHttpTransferProcessClientImpl implements TransferP
     private static final String SUSPENSION_PATH = "%s/transfers/%s/suspension";
     private static final String TERMINATION_PATH = "%s/transfers/%s/termination";
     protected final Monitor monitor;
+    protected final Interceptor interceptor;
 
     protected AbstractHttpTransferProcessClientImpl(Monitor monitor) {
+        this(monitor, null);
+    }
+
+    protected AbstractHttpTransferProcessClientImpl(Monitor monitor, Interceptor interceptor) {
         this.monitor = monitor;
+        this.interceptor = interceptor;
     }
 
     @Override
     public void completeTransfer(String counterPartyPid, Map<String, Object> completionMessage, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(COMPLETION_PATH, callbackAddress, counterPartyPid), completionMessage, expectError)) {
+        try (var response = postJson(format(COMPLETION_PATH, callbackAddress, counterPartyPid), completionMessage, expectError, interceptor)) {
             monitor.debug("Received completion request response");
         }
     }
 
     @Override
     public void suspendTransfer(String counterPartyPid, Map<String, Object> suspensionMessage, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(SUSPENSION_PATH, callbackAddress, counterPartyPid), suspensionMessage, expectError)) {
+        try (var response = postJson(format(SUSPENSION_PATH, callbackAddress, counterPartyPid), suspensionMessage, expectError, interceptor)) {
             monitor.debug("Received suspension request response");
         }
     }
 
     @Override
     public void startTransfer(String counterPartiPid, Map<String, Object> offer, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(START_PATH, callbackAddress, counterPartiPid), offer, expectError)) {
+        try (var response = postJson(format(START_PATH, callbackAddress, counterPartiPid), offer, expectError, interceptor)) {
             monitor.debug("Received start request response");
         }
     }
 
     @Override
     public void terminateTransfer(String counterPartyPid, Map<String, Object> terminationMessage, String callbackAddress, boolean expectError) {
-        try (var response = postJson(format(TERMINATION_PATH, callbackAddress, counterPartyPid), terminationMessage, expectError)) {
+        try (var response = postJson(format(TERMINATION_PATH, callbackAddress, counterPartyPid), terminationMessage, expectError, interceptor)) {
             monitor.debug("Received termination request response");
         }
     }
 
     @Override
     public Map<String, Object> getTransferProcess(String counterPartyPid, String callbackAddress) {
-        try (var response = getJson(callbackAddress + format(GET_PATH, counterPartyPid))) {
-            //noinspection DataFlowIssue
-            var jsonResponse = MessageSerializer.expandAndDeserialize(response.body().byteStream());
-            var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
-            var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
-            monitor.debug(format("Received transfer status response with state %s: %s", state, providerId));
-            return jsonResponse;
+        try (var response = getJson(callbackAddress + format(GET_PATH, counterPartyPid), false, interceptor)) {
+            return toTransferProcess(response);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> completeTransferAsync(String counterPartyPid, Map<String, Object> completionMessage, String callbackAddress, boolean expectError) {
+        return postAsync(format(COMPLETION_PATH, callbackAddress, counterPartyPid), completionMessage, expectError, "Received completion request response");
+    }
+
+    @Override
+    public CompletableFuture<Void> suspendTransferAsync(String counterPartyPid, Map<String, Object> suspensionMessage, String callbackAddress, boolean expectError) {
+        return postAsync(format(SUSPENSION_PATH, callbackAddress, counterPartyPid), suspensionMessage, expectError, "Received suspension request response");
+    }
+
+    @Override
+    public CompletableFuture<Void> startTransferAsync(String counterPartiPid, Map<String, Object> startMessage, String callbackAddress, boolean expectError) {
+        return postAsync(format(START_PATH, callbackAddress, counterPartiPid), startMessage, expectError, "Received start request response");
+    }
+
+    @Override
+    public CompletableFuture<Void> terminateTransferAsync(String counterPartyPid, Map<String, Object> terminationMessage, String callbackAddress, boolean expectError) {
+        return postAsync(format(TERMINATION_PATH, callbackAddress, counterPartyPid), terminationMessage, expectError, "Received termination request response");
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getTransferProcessAsync(String counterPartyPid, String callbackAddress) {
+        return getJsonAsync(callbackAddress + format(GET_PATH, counterPartyPid), false, interceptor).thenApply(response -> {
+            try (response) {
+                return toTransferProcess(response);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> postAsync(String url, Map<String, Object> message, boolean expectError, String debugMessage) {
+        return postJsonAsync(url, message, expectError, interceptor).thenAccept(response -> {
+            try (response) {
+                monitor.debug(debugMessage);
+            }
+        });
+    }
+
+    private Map<String, Object> toTransferProcess(Response response) {
+        //noinspection DataFlowIssue
+        var jsonResponse = MessageSerializer.expandAndDeserialize(response.body().byteStream());
+        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
+        var state = stringIdProperty(DSPACE_PROPERTY_STATE_EXPANDED, jsonResponse);
+        monitor.debug(format("Received transfer status response with state %s: %s", state, providerId));
+        return jsonResponse;
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.tp.http;
 
+import okhttp3.Interceptor;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.tp.ConsumerTransferProcessClient;
 
@@ -32,7 +33,11 @@ public class HttpConsumerTransferProcessClient extends AbstractHttpTransferProce
     private final String consumerConnectorInitiateUrl;
 
     public HttpConsumerTransferProcessClient(String consumerConnectorInitiateUrl, String providerConnectorBaseUrl, Monitor monitor) {
-        super(monitor);
+        this(consumerConnectorInitiateUrl, providerConnectorBaseUrl, monitor, null);
+    }
+
+    public HttpConsumerTransferProcessClient(String consumerConnectorInitiateUrl, String providerConnectorBaseUrl, Monitor monitor, Interceptor interceptor) {
+        super(monitor, interceptor);
         this.consumerConnectorInitiateUrl = consumerConnectorInitiateUrl;
         this.providerConnectorBaseUrl = providerConnectorBaseUrl;
         this.monitor = monitor;
@@ -41,7 +46,7 @@ public class HttpConsumerTransferProcessClient extends AbstractHttpTransferProce
     @Override
     public void initiateTransferRequest(String agreementId, String format) {
         var request = Map.of("providerId", TCK_PARTICIPANT_ID, "agreementId", agreementId, "format", format, "connectorAddress", providerConnectorBaseUrl);
-        try (var response = postJson(consumerConnectorInitiateUrl, request, false, true)) {
+        try (var response = postJson(consumerConnectorInitiateUrl, request, false, true, interceptor)) {
             monitor.debug("Received transfer request response");
         }
     }
@@ -14,12 +14,15 @@
 
 package org.eclipse.dataspacetck.dsp.system.client.tp.http;
 
+import okhttp3.Interceptor;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.client.tp.ProviderTransferProcessClient;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJson;
+import static org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions.postJsonAsync;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 
 /**
@@ -32,17 +35,31 @@ public class HttpProviderTransferProcessClient extends AbstractHttpTransferProce
     private final String connectorUnderTestUrl;
     
     public HttpProviderTransferProcessClient(String connectorUnderTestUrl, Monitor monitor) {
-        super(monitor);
+        this(connectorUnderTestUrl, monitor, null);
+    }
+
+    public HttpProviderTransferProcessClient(String connectorUnderTestUrl, Monitor monitor, Interceptor interceptor) {
+        super(monitor, interceptor);
         this.connectorUnderTestUrl = connectorUnderTestUrl;
         this.monitor = monitor;
     }
 
     @Override
     public Map<String, Object> transferRequest(Map<String, Object> transferRequest, String counterPartyId, boolean expectError) {
-        try (var response = postJson(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError)) {
+        try (var response = postJson(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError, interceptor)) {
             monitor.debug("Received transfer request response");
             return expandAndDeserialize(response.body().byteStream());
         }
     }
 
+    @Override
+    public CompletableFuture<Map<String, Object>> transferRequestAsync(Map<String, Object> transferRequest, String counterPartyId, boolean expectError) {
+        return postJsonAsync(connectorUnderTestUrl + REQUEST_PATH, transferRequest, expectError, interceptor).thenApply(response -> {
+            try (response) {
+                monitor.debug("Received transfer request response");
+                return expandAndDeserialize(response.body().byteStream());
+            }
+        });
+    }
+
 }
@@ -18,6 +18,7 @@ import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.NegotiationListener;
 import org.eclipse.dataspacetck.dsp.system.api.connector.NegotiationManager;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,21 +26,27 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal.received;
 
 /**
  * Base implementation.
  */
 public abstract class AbstractNegotiationManager implements NegotiationManager {
     private final Monitor monitor;
+    private final ProcessEventBus eventBus;
+    protected final TransitionStatistics statistics;
     protected Map<String, ContractNegotiation> negotiations = new ConcurrentHashMap<>();
     protected Queue<NegotiationListener> listeners = new ConcurrentLinkedQueue<>();
 
-    protected AbstractNegotiationManager(Monitor monitor) {
+    protected AbstractNegotiationManager(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
         this.monitor = monitor;
+        this.eventBus = eventBus;
+        this.statistics = statistics;
     }
 
     @NotNull
@@ -81,16 +88,24 @@ public abstract class AbstractNegotiationManager implements NegotiationManager {
         var ids = parseId(terminatedMessage);
         monitor.debug(format("Received terminated message: %s with correlation id %s", ids.id, ids.correlationId));
         var negotiation = findById(ids.id);
-        negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(negotiation)));
+        received("ContractNegotiationTerminationMessage", () -> negotiation.transition(TERMINATED, n -> publish(n, l -> l.terminated(negotiation))));
         return createNegotiationResponse(negotiation.getCorrelationId(), negotiation.getId(), TERMINATED.toString());
     }
 
+    /**
+     * Delivers the event to the registered listeners through the event bus, after the events previously published for the
+     * negotiation.
+     */
+    protected void publish(ContractNegotiation negotiation, Consumer<NegotiationListener> event) {
+        eventBus.publish(negotiation.getId(), () -> listeners.forEach(event));
+    }
+
     protected abstract NegotiationId parseId(Map<String, Object> message);
 
     @Override
     public void terminated(String id) {
         var cn = findById(id);
-        cn.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(n)));
+        cn.transition(TERMINATED, n -> publish(n, l -> l.terminated(n)));
     }
 
     protected record NegotiationId(String id, String correlationId) {
@@ -17,29 +17,33 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ConsumerNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
 
 import java.util.Map;
 
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor.ids;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.NegotiationKind.Consumer;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.OFFERED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal.received;
 
 /**
  * Manages contract negotiations on a consumer.
  */
 public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager implements ConsumerNegotiationManager {
+    private static final PropertyExtractor ID_PROPERTIES = ids(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
     private final Monitor monitor;
 
-    public ConsumerNegotiationManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ConsumerNegotiationManagerImpl(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
+        super(monitor, eventBus, statistics);
         this.monitor = monitor;
     }
 
@@ -48,14 +52,15 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
         var negotiationBuilder = ContractNegotiation.Builder.newInstance()
                 .datasetId(datasetId)
                 .offerId(offerId)
-                .negotiationKind(Consumer);
+                .negotiationKind(Consumer)
+                .statistics(statistics);
 
         if (callbackAddress != null) {
             negotiationBuilder.callbackAddress(callbackAddress);
         }
         var negotiation = negotiationBuilder.build();
         negotiations.put(negotiation.getId(), negotiation);
-        listeners.forEach(l -> l.contractInitialized(negotiation));
+        publish(negotiation, l -> l.contractInitialized(negotiation));
         return negotiation;
     }
 
@@ -63,65 +68,60 @@ public class ConsumerNegotiationManagerImpl extends AbstractNegotiationManager i
     public void contractRequested(String consumerId, String providerId) {
         var negotiation = getNegotiations().get(consumerId);
         negotiation.setCorrelationId(providerId, REQUESTED);
-        listeners.forEach(l -> l.contractRequested(negotiation));
+        publish(negotiation, l -> l.contractRequested(negotiation));
     }
 
     @Override
     public void counterOffered(String consumerId) {
         var negotiation = getNegotiations().get(consumerId);
-        negotiation.transition(REQUESTED, n -> listeners.forEach(l -> l.offered(n)));
+        negotiation.transition(REQUESTED, n -> publish(n, l -> l.offered(n)));
     }
 
     @Override
     public void accepted(String consumerId) {
         var negotiation = getNegotiations().get(consumerId);
-        negotiation.transition(ACCEPTED, n -> listeners.forEach(l -> l.agreed(n)));
+        negotiation.transition(ACCEPTED, n -> publish(n, l -> l.agreed(n)));
     }
 
     @Override
     public void verified(String consumerId) {
         var negotiation = getNegotiations().get(consumerId);
-        negotiation.transition(VERIFIED, n -> listeners.forEach(l -> l.verified(n)));
+        negotiation.transition(VERIFIED, n -> publish(n, l -> l.verified(n)));
     }
 
     @Override
     public void terminated(String consumerId) {
         var negotiation = getNegotiations().get(consumerId);
-        negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(n)));
+        negotiation.transition(TERMINATED, n -> publish(n, l -> l.terminated(n)));
     }
 
     @Override
     public Map<String, Object> handleOffer(Map<String, Object> offer) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, offer);
-        monitor.debug("Received provider offer: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, offer);
-        var negotiation = findById(consumerId);
-        negotiation.storeOffer(offer, OFFERED, n -> listeners.forEach(l -> l.offered(negotiation)));
+        var ids = parseId(offer);
+        monitor.debug("Received provider offer: " + ids.correlationId());
+        var negotiation = findById(ids.id());
+        received("ContractOfferMessage", () -> negotiation.storeOffer(offer, OFFERED, n -> publish(n, l -> l.offered(negotiation))));
         return createNegotiationResponse(negotiation.getCorrelationId(), negotiation.getId(), OFFERED.toString());
     }
 
     @Override
     public void handleAgreement(Map<String, Object> agreement) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, agreement);
-        monitor.debug("Received provider agreement: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, agreement);
-        var negotiation = findById(consumerId);
-        negotiation.storeAgreement(agreement, n -> listeners.forEach(l -> l.agreed(negotiation)));
+        var ids = parseId(agreement);
+        monitor.debug("Received provider agreement: " + ids.correlationId());
+        var negotiation = findById(ids.id());
+        received("ContractAgreementMessage", () -> negotiation.storeAgreement(agreement, n -> publish(n, l -> l.agreed(negotiation))));
     }
 
     @Override
     public void handleFinalized(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event);
-        monitor.debug("Received provider finalize: " + providerId);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, event);
-        var negotiation = findById(consumerId);
-        negotiation.transition(ContractNegotiation.State.FINALIZED, n -> listeners.forEach(l -> l.finalized(negotiation)));
+        var ids = parseId(event);
+        monitor.debug("Received provider finalize: " + ids.correlationId());
+        var negotiation = findById(ids.id());
+        received("ContractNegotiationEventMessage", () -> negotiation.transition(ContractNegotiation.State.FINALIZED, n -> publish(n, l -> l.finalized(negotiation))));
     }
 
     @Override
     protected NegotiationId parseId(Map<String, Object> message) {
-        var providerPid = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new NegotiationId(consumerPid, providerPid);
+        return ID_PROPERTIES.extract(message, NegotiationId::new);
     }
 }
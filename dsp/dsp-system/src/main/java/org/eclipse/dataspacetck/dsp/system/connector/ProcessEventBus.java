@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers negotiation and transfer process events to listeners outside the transition that caused them. Events of the same
+ * process are delivered one at a time in the order they were published; events of different processes are dispatched
+ * concurrently on the executor. A slow listener therefore only delays later events of its own process. The managers publish
+ * from the work of a transition, after it was applied, so the events of concurrent transitions of one process are delivered in
+ * the order they were published, which may differ from the order the transitions were applied.
+ * <p>
+ * A listener that throws an exception is reported and does not affect the delivery of later events. A failed assertion is not
+ * swallowed: a synchronous bus rethrows it to the publishing thread, any other bus records it for the process until
+ * {@link #verify(String)} rethrows it, typically to the pipeline driving the process once its stages have run.
+ * <p>
+ * The number of undelivered events is bounded. Publishing blocks while the bus is full and fails if no capacity becomes
+ * available within the timeout.
+ */
+public class ProcessEventBus {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final Duration DEFAULT_PUBLISH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Executor executor;
+    private final Monitor monitor;
+    private final Semaphore capacity;
+    private final Duration publishTimeout;
+    private final boolean synchronous;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Queue<AssertionError>> failures = new ConcurrentHashMap<>();
+
+    public ProcessEventBus(Executor executor, int capacity, Monitor monitor) {
+        this(executor, capacity, DEFAULT_PUBLISH_TIMEOUT, monitor);
+    }
+
+    public ProcessEventBus(Executor executor, int capacity, Duration publishTimeout, Monitor monitor) {
+        this(executor, capacity, publishTimeout, false, monitor);
+    }
+
+    private ProcessEventBus(Executor executor, int capacity, Duration publishTimeout, boolean synchronous, Monitor monitor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Event bus capacity must be positive: " + capacity);
+        }
+        this.executor = executor;
+        this.monitor = monitor;
+        this.capacity = new Semaphore(capacity);
+        this.publishTimeout = publishTimeout;
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Creates a bus that delivers events on the publishing thread, after the events published before them.
+     */
+    public static ProcessEventBus synchronous(Monitor monitor) {
+        return new ProcessEventBus(Runnable::run, DEFAULT_CAPACITY, DEFAULT_PUBLISH_TIMEOUT, true, monitor);
+    }
+
+    /**
+     * Queues the event for delivery after the events previously published for the process.
+     */
+    public void publish(String processId, Runnable event) {
+        try {
+            if (!capacity.tryAcquire(publishTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timeout publishing event, the event queue is full for process: " + processId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        // added under the map lock of the process, so a lane is never removed while an event is added to it
+        var lane = lanes.compute(processId, (id, existing) -> {
+            var target = existing != null ? existing : new Lane(id);
+            target.events.add(event);
+            return target;
+        });
+        lane.schedule();
+    }
+
+    /**
+     * Throws the first assertion error a listener raised for the process since the last verification, with any later ones
+     * suppressed. The failures of the process are cleared. Events not yet delivered are not waited for.
+     */
+    public void verify(String processId) {
+        var raised = failures.remove(processId);
+        var first = raised == null ? null : raised.poll();
+        if (first != null) {
+            raised.forEach(first::addSuppressed);
+            throw first;
+        }
+    }
+
+    /**
+     * Returns the number of processes with undelivered events.
+     */
+    int getActiveProcesses() {
+        return lanes.size();
+    }
+
+    /**
+     * The events of one process. At most one task drains a lane at any time. A drained lane is removed, so only processes with
+     * undelivered events hold a lane.
+     */
+    private class Lane {
+        private final String processId;
+        private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(String processId) {
+            this.processId = processId;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            AssertionError failure = null;
+            Runnable event;
+            while (failure == null && (event = events.poll()) != null) {
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    monitor.message(format("Event listener failed for process %s: %s", processId, e.getMessage()));
+                } catch (AssertionError e) {
+                    if (synchronous) {
+                        failure = e;
+                    } else {
+                        // rethrown on an executor thread, the error would only reach its uncaught exception handler
+                        monitor.message(format("Event listener assertion failed for process %s: %s", processId, e.getMessage()));
+                        failures.computeIfAbsent(processId, id -> new ConcurrentLinkedQueue<>()).add(e);
+                    }
+                } finally {
+                    capacity.release();
+                }
+            }
+            finish();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void finish() {
+            // removed while still scheduled, so no other task can be draining the lane; events are only added under the map lock
+            lanes.computeIfPresent(processId, (id, lane) -> lane == this && events.isEmpty() ? null : lane);
+            scheduled.set(false);
+            // an event published after the last poll but before the flag was cleared would otherwise be stranded
+            if (!events.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -17,7 +17,9 @@ package org.eclipse.dataspacetck.dsp.system.connector;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
@@ -35,6 +37,7 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.ma
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createNegotiationResponse;
+import static org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor.ids;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.NegotiationKind.Provider;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.ACCEPTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.AGREED;
@@ -43,89 +46,89 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegot
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.TERMINATED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State.VERIFIED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal.received;
 
 /**
  * Manages contract negotiations on a provider.
  */
 public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager implements ProviderNegotiationManager {
+    private static final PropertyExtractor ID_PROPERTIES = ids(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
 
-    public ProviderNegotiationManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ProviderNegotiationManagerImpl(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
+        super(monitor, eventBus, statistics);
     }
 
     @Override
     protected NegotiationId parseId(Map<String, Object> message) {
-        var providerPid = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new NegotiationId(providerPid, consumerPid);
+        return ID_PROPERTIES.extract(message, NegotiationId::new);
     }
 
     @Override
     public void offered(String providerId) {
         var negotiation = negotiations.get(providerId);
-        negotiation.transition(OFFERED, n -> listeners.forEach(l -> l.offered(n)));
+        negotiation.transition(OFFERED, n -> publish(n, l -> l.offered(n)));
     }
 
     @Override
     public void agreed(String providerId) {
         var negotiation = negotiations.get(providerId);
-        negotiation.transition(AGREED, n -> listeners.forEach(l -> l.agreed(n)));
+        negotiation.transition(AGREED, n -> publish(n, l -> l.agreed(n)));
     }
 
     @Override
     public void finalized(String providerId) {
         var negotiation = negotiations.get(providerId);
-        negotiation.transition(FINALIZED, n -> listeners.forEach(l -> l.finalized(n)));
+        negotiation.transition(FINALIZED, n -> publish(n, l -> l.finalized(n)));
     }
 
     @Override
     public Map<String, Object> handleContractRequest(Map<String, Object> contractRequest, String counterPartyId) {
-        ContractNegotiation negotiation;
-        if (contractRequest.containsKey(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED)) {
-            // the message is a counter-offer
-            var processId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, contractRequest);
-            negotiation = handleCounterOffer(contractRequest, processId);
-        } else {
+        var negotiation = received("ContractRequestMessage", () -> {
+            if (contractRequest.containsKey(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED)) {
+                // the message is a counter-offer
+                var processId = ID_PROPERTIES.extract(contractRequest, 0);
+                return handleCounterOffer(contractRequest, processId);
+            }
             // the message is an initial request
-            negotiation = handleInitialRequest(contractRequest, counterPartyId);
-        }
+            return handleInitialRequest(contractRequest, counterPartyId);
+        });
         return createNegotiationResponse(negotiation.getId(), negotiation.getCorrelationId(), negotiation.getState().toString());
     }
 
     @Override
     public void handleAccepted(Map<String, Object> event) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, event);
+        var providerId = ID_PROPERTIES.extract(event, 0);
         stringIdProperty(DSPACE_PROPERTY_EVENT_TYPE_EXPANDED, event);
         var negotiation = negotiations.get(providerId);
-        negotiation.transition(ACCEPTED, n -> listeners.forEach(l -> l.agreed(negotiation)));
+        received("ContractNegotiationEventMessage", () -> negotiation.transition(ACCEPTED, n -> publish(n, l -> l.agreed(negotiation))));
     }
 
     @Override
     public void handleVerified(Map<String, Object> verification) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, verification);
+        var providerId = ID_PROPERTIES.extract(verification, 0);
         var negotiation = findById(providerId);
         // TODO verify message
-        negotiation.transition(VERIFIED, n -> listeners.forEach(l -> l.verified(n)));
+        received("ContractAgreementVerificationMessage", () -> negotiation.transition(VERIFIED, n -> publish(n, l -> l.verified(n))));
     }
 
     @Override
     public void terminated(Map<String, Object> termination) {
-        var processId = requireNonNull(stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, termination));
+        var processId = requireNonNull(ID_PROPERTIES.extract(termination, 0));
         var negotiation = negotiations.get(processId);
-        negotiation.transition(TERMINATED, n -> listeners.forEach(l -> l.terminated(n)));
+        negotiation.transition(TERMINATED, n -> publish(n, l -> l.terminated(n)));
     }
 
     @NotNull
     private ContractNegotiation handleCounterOffer(Map<String, Object> contractRequest, String processId) {
         var negotiation = findById(processId);
         var offer = mapProperty(DSPACE_PROPERTY_OFFER_EXPANDED, contractRequest);
-        negotiation.storeOffer(offer, REQUESTED, n -> listeners.forEach(l -> l.contractRequested(negotiation)));
+        negotiation.storeOffer(offer, REQUESTED, n -> publish(n, l -> l.contractRequested(negotiation)));
         return negotiation;
     }
 
     @NotNull
     private ContractNegotiation handleInitialRequest(Map<String, Object> contractRequest, String counterPartyId) {
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, contractRequest);
+        var consumerPid = ID_PROPERTIES.extract(contractRequest, 1);
         var previousNegotiation = findByCorrelationId(consumerPid);
         if (previousNegotiation != null) {
             return previousNegotiation;
@@ -144,10 +147,11 @@ public class ProviderNegotiationManagerImpl extends AbstractNegotiationManager i
                 .counterPartyId(counterPartyId)
                 .callbackAddress(callbackAddress)
                 .negotiationKind(Provider)
+                .statistics(statistics)
                 .build();
 
         negotiations.put(negotiation.getId(), negotiation);
-        listeners.forEach(l -> l.contractRequested(negotiation));
+        publish(negotiation, l -> l.contractRequested(negotiation));
 
         return negotiation;
     }
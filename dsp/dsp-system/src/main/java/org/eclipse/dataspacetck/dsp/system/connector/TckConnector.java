@@ -22,6 +22,8 @@ import org.eclipse.dataspacetck.dsp.system.api.connector.ProviderNegotiationMana
 import org.eclipse.dataspacetck.dsp.system.api.connector.catalog.CatalogManager;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ConsumerTransferProcessManager;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ProviderTransferProcessManager;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
 import org.eclipse.dataspacetck.dsp.system.connector.catalog.CatalogManagerImpl;
 import org.eclipse.dataspacetck.dsp.system.connector.tp.ConsumerTransferProcessManagerImpl;
 import org.eclipse.dataspacetck.dsp.system.connector.tp.ProviderTransferProcessManagerImpl;
@@ -38,13 +40,30 @@ public class TckConnector implements Connector {
     private final ConsumerTransferProcessManager consumerTransferProcessManager;
     private final ProviderTransferProcessManager providerTransferProcessManager;
     private final CatalogManager catalogManager;
+    private final ProcessEventBus eventBus;
 
     public TckConnector(Monitor monitor) {
-        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor);
-        providerNegotiationManager = new ProviderNegotiationManagerImpl(monitor);
-        consumerTransferProcessManager = new ConsumerTransferProcessManagerImpl(monitor);
-        providerTransferProcessManager = new ProviderTransferProcessManagerImpl(monitor);
+        this(monitor, ProcessEventBus.synchronous(monitor));
+    }
+
+    /**
+     * Creates a connector whose managers deliver listener events through the given bus.
+     */
+    public TckConnector(Monitor monitor, ProcessEventBus eventBus) {
+        this(monitor, eventBus, TransitionJournal.getStatistics());
+    }
+
+    /**
+     * Creates a connector whose managers deliver listener events through the given bus and record the transition latencies of
+     * their processes in the given statistics.
+     */
+    public TckConnector(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
+        consumerNegotiationManager = new ConsumerNegotiationManagerImpl(monitor, eventBus, statistics);
+        providerNegotiationManager = new ProviderNegotiationManagerImpl(monitor, eventBus, statistics);
+        consumerTransferProcessManager = new ConsumerTransferProcessManagerImpl(monitor, eventBus, statistics);
+        providerTransferProcessManager = new ProviderTransferProcessManagerImpl(monitor, eventBus, statistics);
         catalogManager = new CatalogManagerImpl(monitor);
+        this.eventBus = eventBus;
     }
 
     public ProviderNegotiationManager getProviderNegotiationManager() {
@@ -72,4 +91,9 @@ public class TckConnector implements Connector {
     public Map<String, Object> getMetadata() {
         return Map.of("protocolVersions", List.of(Map.of("version", "2025-1", "path", "http://example.com/dsp/2025-1", "binding", "HTTPS")));
     }
+
+    @Override
+    public void verifyEvents(String processId) {
+        eventBus.verify(processId);
+    }
 }
@@ -19,6 +19,8 @@ import org.eclipse.dataspacetck.dsp.system.api.connector.tp.TransferProcessListe
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.TransferProcessManager;
 import org.eclipse.dataspacetck.dsp.system.api.service.Result;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
+import org.eclipse.dataspacetck.dsp.system.connector.ProcessEventBus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +30,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -48,17 +51,22 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.STARTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.SUSPENDED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.TERMINATED;
+import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal.received;
 
 /**
  * Base implementation.
  */
 public abstract class AbstractTransferProcessManager implements TransferProcessManager {
     private final Monitor monitor;
+    private final ProcessEventBus eventBus;
+    protected final TransitionStatistics statistics;
     protected Map<String, TransferProcess> transferProcesses = new ConcurrentHashMap<>();
     protected Queue<TransferProcessListener> listeners = new ConcurrentLinkedQueue<>();
 
-    protected AbstractTransferProcessManager(Monitor monitor) {
+    protected AbstractTransferProcessManager(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
         this.monitor = monitor;
+        this.eventBus = eventBus;
+        this.statistics = statistics;
     }
 
     @NotNull
@@ -117,7 +125,7 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
 
         var transfer = findById(ids.id);
         return withStateTransition(transfer, (tp) -> {
-            tp.transition(COMPLETED, p -> listeners.forEach(l -> l.completed(p)));
+            received("TransferCompletionMessage", () -> tp.transition(COMPLETED, p -> publish(p, l -> l.completed(p))));
             return createTransferResponse(tp.providerPid(), tp.consumerPid(), COMPLETED.toString());
         });
     }
@@ -127,7 +135,7 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
         var ids = parseId(terminatedMessage);
         monitor.debug(format("Received terminated message: %s with correlation id %s", ids.id, ids.correlationId));
         var transfer = findById(ids.id);
-        transfer.transition(TERMINATED, p -> listeners.forEach(l -> l.terminated(transfer)));
+        received("TransferTerminationMessage", () -> transfer.transition(TERMINATED, p -> publish(p, l -> l.terminated(transfer))));
         return createTransferResponse(transfer.providerPid(), transfer.consumerPid(), TERMINATED.toString());
     }
 
@@ -137,7 +145,7 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
         monitor.debug(format("Received suspension message: %s with correlation id %s", ids.id, ids.correlationId));
         var transfer = findById(ids.id);
         return withStateTransition(transfer, tp -> {
-            tp.transition(SUSPENDED, p -> listeners.forEach(l -> l.suspended(p)));
+            received("TransferSuspensionMessage", () -> tp.transition(SUSPENDED, p -> publish(p, l -> l.suspended(p))));
             return createTransferResponse(tp.providerPid(), tp.consumerPid(), SUSPENDED.toString());
         });
     }
@@ -156,12 +164,19 @@ public abstract class AbstractTransferProcessManager implements TransferProcessM
         var transfer = findById(ids.id);
 
         return withStateTransition(transfer, tp -> {
-            tp.setDataAddress(dataAddress);
-            tp.transition(STARTED, p -> listeners.forEach(l -> l.started(p)));
+            received("TransferStartMessage", () -> tp.storeDataAddress(dataAddress, STARTED, p -> publish(p, l -> l.started(p))));
             return createTransferResponse(tp.providerPid(), tp.consumerPid(), STARTED.toString());
         });
     }
 
+    /**
+     * Delivers the event to the registered listeners through the event bus, after the events previously published for the
+     * transfer process.
+     */
+    protected void publish(TransferProcess transferProcess, Consumer<TransferProcessListener> event) {
+        eventBus.publish(transferProcess.getId(), () -> listeners.forEach(event));
+    }
+
     private TransferProcess.DataAddress toDataAddress(Map<String, Object> dataAddress) {
         if (dataAddress == null) {
             return null;
@@ -16,13 +16,16 @@ package org.eclipse.dataspacetck.dsp.system.connector.tp;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ConsumerTransferProcessManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
+import org.eclipse.dataspacetck.dsp.system.connector.ProcessEventBus;
 
 import java.util.Map;
 
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
+import static org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor.ids;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.State.REQUESTED;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.TransferKind.Consumer;
 
@@ -30,11 +33,12 @@ import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProce
  * Manages transfer processes on a consumer.
  */
 public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessManager implements ConsumerTransferProcessManager {
+    private static final PropertyExtractor ID_PROPERTIES = ids(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, DSPACE_PROPERTY_PROVIDER_PID_EXPANDED);
 
     private final Monitor monitor;
 
-    public ConsumerTransferProcessManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ConsumerTransferProcessManagerImpl(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
+        super(monitor, eventBus, statistics);
         this.monitor = monitor;
     }
 
@@ -46,9 +50,10 @@ public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessM
                 .callbackAddress(providerBaseUrl)
                 .dataAddress(dataAddress)
                 .transferKind(Consumer)
+                .statistics(statistics)
                 .build();
         transferProcesses.put(transferProcess.getId(), transferProcess);
-        listeners.forEach(l -> l.transferInitialized(transferProcess));
+        publish(transferProcess, l -> l.transferInitialized(transferProcess));
 
         return transferProcess;
     }
@@ -56,15 +61,12 @@ public class ConsumerTransferProcessManagerImpl extends AbstractTransferProcessM
     @Override
     public void transferRequested(String consumerId, String providerId) {
         var transfer = findById(consumerId);
-        transfer.setCorrelationId(providerId);
-        transfer.transition(REQUESTED, p -> listeners.forEach(l -> l.requested(transfer)));
+        transfer.setCorrelationId(providerId, REQUESTED, p -> publish(p, l -> l.requested(transfer)));
     }
 
 
     @Override
     protected TransferId parseId(Map<String, Object> message) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new TransferId(consumerId, providerId);
+        return ID_PROPERTIES.extract(message, TransferId::new);
     }
 }
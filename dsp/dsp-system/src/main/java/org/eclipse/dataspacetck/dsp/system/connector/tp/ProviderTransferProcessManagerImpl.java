@@ -16,29 +16,33 @@ package org.eclipse.dataspacetck.dsp.system.connector.tp;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.ProviderTransferProcessManager;
+import org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
+import org.eclipse.dataspacetck.dsp.system.connector.ProcessEventBus;
 
 import java.util.Map;
 
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CALLBACK_ADDRESS_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_CONSUMER_PID_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_PROVIDER_PID_EXPANDED;
-import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringProperty;
+import static org.eclipse.dataspacetck.dsp.system.api.message.PropertyExtractor.ids;
 import static org.eclipse.dataspacetck.dsp.system.api.message.tp.TransferFunctions.createTransferResponse;
 import static org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess.TransferKind.Provider;
 
 public class ProviderTransferProcessManagerImpl extends AbstractTransferProcessManager implements ProviderTransferProcessManager {
+    private static final PropertyExtractor ID_PROPERTIES = ids(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, DSPACE_PROPERTY_CONSUMER_PID_EXPANDED);
     private final Monitor monitor;
 
-    public ProviderTransferProcessManagerImpl(Monitor monitor) {
-        super(monitor);
+    public ProviderTransferProcessManagerImpl(Monitor monitor, ProcessEventBus eventBus, TransitionStatistics statistics) {
+        super(monitor, eventBus, statistics);
         this.monitor = monitor;
     }
 
     @Override
     public Map<String, Object> handleTransferRequest(Map<String, Object> transferRequest, String counterPartyId) {
-        var consumerPid = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, transferRequest);
+        var consumerPid = ID_PROPERTIES.extract(transferRequest, 1);
         monitor.debug("Received transfer request message with consumer pid: " + consumerPid);
 
         var prevTransfer = findByCorrelationId(consumerPid);
@@ -51,10 +55,11 @@ public class ProviderTransferProcessManagerImpl extends AbstractTransferProcessM
                 .state(TransferProcess.State.REQUESTED)
                 .callbackAddress(callbackAddress)
                 .transferKind(Provider)
+                .statistics(statistics)
                 .build();
 
         transferProcesses.put(transfer.getId(), transfer);
-        listeners.forEach(l -> l.requested(transfer));
+        publish(transfer, l -> l.requested(transfer));
 
         return createTransferResponse(transfer.getId(), transfer.getCorrelationId(), transfer.getState().toString());
 
@@ -62,8 +67,6 @@ public class ProviderTransferProcessManagerImpl extends AbstractTransferProcessM
 
     @Override
     protected TransferId parseId(Map<String, Object> message) {
-        var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, message);
-        var consumerId = stringIdProperty(DSPACE_PROPERTY_CONSUMER_PID_EXPANDED, message);
-        return new TransferId(providerId, consumerId);
+        return ID_PROPERTIES.extract(message, TransferId::new);
     }
 }
@@ -18,16 +18,100 @@ import org.eclipse.dataspacetck.core.api.pipeline.AbstractAsyncPipeline;
 import org.eclipse.dataspacetck.core.api.pipeline.AsyncPipeline;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dsp.system.api.message.DeferredValidation;
 import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class AbstractDspPipeline<P extends AsyncPipeline<P>> extends AbstractAsyncPipeline<P> {
+    private final Duration stateTimeout;
+    private volatile DeferredValidation.Scope validationScope;
 
     public AbstractDspPipeline(CallbackEndpoint endpoint, Monitor monitor, long waitTime) {
         super(endpoint, monitor, waitTime);
+        this.stateTimeout = Duration.ofSeconds(waitTime);
+    }
+
+    /**
+     * Executes the pipeline in a validation scope so that messages validated in the background still fail the pipeline, as do
+     * assertions failed by listeners on the event threads of the connector. The transitions of the process under test are logged
+     * afterward, also when the pipeline fails.
+     */
+    @Override
+    public void execute() {
+        try (var scope = DeferredValidation.open()) {
+            validationScope = scope;
+            super.execute();
+            verifyEvents();
+        } finally {
+            validationScope = null;
+            var journal = getJournal();
+            if (journal != null) {
+                monitor.debug(journal.export());
+            }
+        }
+    }
+
+    /**
+     * Expands and deserializes a message received by a callback handler of this pipeline. The message is validated in the
+     * validation scope of the pipeline, not of whichever pipeline happens to run on the callback thread.
+     */
+    protected Map<String, Object> expandMessage(InputStream message) {
+        var scope = validationScope;
+        if (scope == null) {
+            return MessageSerializer.expandAndDeserialize(message);
+        }
+        return scope.call(() -> MessageSerializer.expandAndDeserialize(message));
+    }
+
+    /**
+     * Returns the transition journal of the process this pipeline drives, or null if it has not been created yet.
+     */
+    @Nullable
+    protected TransitionJournal getJournal() {
+        return null;
+    }
+
+    /**
+     * Fails if a listener failed an assertion while handling an event of the process this pipeline drives.
+     */
+    protected void verifyEvents() {
+    }
+
+    /**
+     * Adds a stage that blocks until the future returned by the function completes. The function receives the wait time of the
+     * pipeline, and the stage fails if the future does not complete within it.
+     */
+    protected P thenAwait(String description, Function<Duration, CompletableFuture<?>> awaiting) {
+        stages.add(() -> {
+            try {
+                awaiting.apply(stateTimeout).get(stateTimeout.toMillis(), MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new AssertionError("Timeout waiting for " + description);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    throw new AssertionError("Timeout waiting for " + description);
+                }
+                throw new AssertionError("Failed waiting for " + description + ": " + e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted waiting for " + description);
+            }
+        });
+        //noinspection unchecked
+        return (P) this;
     }
 
     protected P addHandlerAction(String path, Consumer<Map<String, Object>> action) {
@@ -35,7 +119,7 @@ public class AbstractDspPipeline<P extends AsyncPipeline<P>> extends AbstractAsy
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(path, agreement -> {
-                    action.accept((MessageSerializer.expandAndDeserialize(agreement)));
+                    action.accept(expandMessage(agreement));
                     endpoint.deregisterHandler(path);
                     latch.countDown();
                     return null;
@@ -15,17 +15,17 @@ package org.eclipse.dataspacetck.dsp.system.pipeline;
 
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
-import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.NegotiationPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
 import org.eclipse.dataspacetck.dsp.system.client.cn.NegotiationClient;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createTermination;
 
@@ -35,6 +35,7 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctio
 public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<P>> extends AbstractDspPipeline<P> implements NegotiationPipeline<P> {
     private static final String NEGOTIATIONS_TERMINATION_PATH = "/negotiations/[^/]+/termination/";
     private final NegotiationClient negotiationClient;
+    private final CompletableFuture<ContractNegotiation> negotiationCreated = new CompletableFuture<>();
     protected ContractNegotiation providerNegotiation;
 
     public AbstractNegotiationPipeline(NegotiationClient negotiationClient, CallbackEndpoint endpoint, Monitor monitor, long waitTime) {
@@ -42,8 +43,25 @@ public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<
         this.negotiationClient = negotiationClient;
     }
 
+    /**
+     * Waits until the negotiation transitions to the state. The wait ends as soon as the transition is applied, including when
+     * the negotiation is only created after the wait started.
+     */
     public P thenWaitForState(ContractNegotiation.State state) {
-        return thenWait("state to transition to " + state, () -> providerNegotiation != null && state == providerNegotiation.getState());
+        return thenAwait("state to transition to " + state, timeout -> negotiationCreated.thenCompose(negotiation -> negotiation.awaitState(state, timeout)));
+    }
+
+    /**
+     * Sets the negotiation the pipeline drives and releases pending state waits.
+     */
+    protected void setProviderNegotiation(ContractNegotiation negotiation) {
+        providerNegotiation = negotiation;
+        negotiationCreated.complete(negotiation);
+    }
+
+    @Override
+    protected TransitionJournal getJournal() {
+        return providerNegotiation == null ? null : providerNegotiation.getJournal();
     }
 
     @Override
@@ -57,11 +75,11 @@ public abstract class AbstractNegotiationPipeline<P extends NegotiationPipeline<
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(path, event -> {
-                    var expanded = MessageSerializer.expandAndDeserialize(event);
+                    var expanded = expandMessage(event);
                     var response = action.apply(expanded);
                     endpoint.deregisterHandler(path);
                     latch.countDown();
-                    return serialize(expandAndDeserialize(response));
+                    return serialize(response);
                 }));
         return self();
     }
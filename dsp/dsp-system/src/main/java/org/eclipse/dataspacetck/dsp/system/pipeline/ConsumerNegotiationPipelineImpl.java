@@ -18,7 +18,6 @@ import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.NegotiationListener;
-import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.ConsumerNegotiationPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.ContractNegotiation.State;
@@ -35,7 +34,6 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPAC
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAgreement;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createFinalizedEvent;
@@ -77,7 +75,7 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
             providerConnector.getProviderNegotiationManager().registerListener(new NegotiationListener() {
                 @Override
                 public void contractRequested(ContractNegotiation negotiation) {
-                    ConsumerNegotiationPipelineImpl.this.providerNegotiation = negotiation;
+                    ConsumerNegotiationPipelineImpl.this.setProviderNegotiation(negotiation);
                     // Remove the listener
                     providerConnector.getProviderNegotiationManager().deregisterListener(this);
                 }
@@ -154,11 +152,11 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(REQUEST_INITIAL_PATH, event -> {
-                    var expanded = MessageSerializer.expandAndDeserialize(event);
+                    var expanded = expandMessage(event);
                     var negotiation = action.apply(expanded, consumerConnectorId);
                     endpoint.deregisterHandler(REQUEST_INITIAL_PATH);
                     latch.countDown();
-                    return serialize(expandAndDeserialize(negotiation));
+                    return serialize(negotiation);
                 }));
         return this;
     }
@@ -169,11 +167,11 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(REQUEST_PATH, event -> {
-                    var expanded = MessageSerializer.expandAndDeserialize(event);
+                    var expanded = expandMessage(event);
                     var negotiation = action.apply(expanded, consumerConnectorId);
                     endpoint.deregisterHandler(REQUEST_PATH);
                     latch.countDown();
-                    return serialize(expandAndDeserialize(negotiation));
+                    return serialize(negotiation);
                 }));
         return this;
     }
@@ -204,7 +202,7 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(path, event -> {
-                    var expanded = MessageSerializer.expandAndDeserialize(event);
+                    var expanded = expandMessage(event);
                     action.accept(expanded);
                     endpoint.deregisterHandler(path);
                     latch.countDown();
@@ -218,6 +216,13 @@ public class ConsumerNegotiationPipelineImpl extends AbstractNegotiationPipeline
         return this;
     }
 
+    @Override
+    protected void verifyEvents() {
+        if (providerNegotiation != null) {
+            providerConnector.verifyEvents(providerNegotiation.getId());
+        }
+    }
+
     @Override
     protected void terminated(String id) {
         providerConnector.getProviderNegotiationManager().terminated(id);
@@ -33,7 +33,6 @@ import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPAC
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.TCK_PARTICIPANT_ID;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createAcceptedEvent;
 import static org.eclipse.dataspacetck.dsp.system.api.message.NegotiationFunctions.createContractRequest;
@@ -74,7 +73,7 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
     @SuppressWarnings("unused")
     public ProviderNegotiationPipeline sendRequestMessage(String datasetId, String offerId, boolean expectError) {
         stages.add(() -> {
-            providerNegotiation = consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId, providerBaseUrl);
+            setProviderNegotiation(consumerConnector.getConsumerNegotiationManager().createNegotiation(datasetId, offerId, providerBaseUrl));
 
             var contractRequest = createContractRequest(providerNegotiation.getId(), offerId, datasetId, endpoint.getAddress());
 
@@ -154,7 +153,7 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(NEGOTIATIONS_OFFER_PATH, offer -> {
-                    var negotiation = action.apply(expandAndDeserialize(offer));
+                    var negotiation = action.apply(expandMessage(offer));
                     endpoint.deregisterHandler(NEGOTIATIONS_OFFER_PATH);
                     latch.countDown();
                     return serialize(negotiation);
@@ -199,4 +198,11 @@ public class ProviderNegotiationPipelineImpl extends AbstractNegotiationPipeline
     protected ProviderNegotiationPipeline self() {
         return this;
     }
+
+    @Override
+    protected void verifyEvents() {
+        if (providerNegotiation != null) {
+            consumerConnector.verifyEvents(providerNegotiation.getId());
+        }
+    }
 }
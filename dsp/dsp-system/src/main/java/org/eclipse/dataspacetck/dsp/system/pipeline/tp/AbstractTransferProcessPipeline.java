@@ -17,14 +17,15 @@ package org.eclipse.dataspacetck.dsp.system.pipeline.tp;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.http.FallibleDspHandler;
-import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.tp.TransferProcessPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.service.Result;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
 import org.eclipse.dataspacetck.dsp.system.client.tp.TransferProcessClient;
 import org.eclipse.dataspacetck.dsp.system.pipeline.AbstractDspPipeline;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
@@ -42,6 +43,7 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
     private static final String TRANSFER_SUSPENSION_PATH = "/transfers/[^/]+/suspension";
 
     protected final TransferProcessClient transferProcessClient;
+    private final CompletableFuture<TransferProcess> transferProcessCreated = new CompletableFuture<>();
     protected TransferProcess transferProcess;
 
     public AbstractTransferProcessPipeline(TransferProcessClient transferProcessClient, CallbackEndpoint endpoint, Monitor monitor, long waitTime) {
@@ -49,8 +51,25 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         this.transferProcessClient = transferProcessClient;
     }
 
+    /**
+     * Waits until the transfer process transitions to the state. The wait ends as soon as the transition is applied, including
+     * when the transfer process is only created after the wait started.
+     */
     public P thenWaitForState(State state) {
-        return thenWait("state to transition to " + state, () -> transferProcess != null && state == transferProcess.getState());
+        return thenAwait("state to transition to " + state, timeout -> transferProcessCreated.thenCompose(process -> process.awaitState(state, timeout)));
+    }
+
+    /**
+     * Sets the transfer process the pipeline drives and releases pending state waits.
+     */
+    protected void setTransferProcess(TransferProcess process) {
+        transferProcess = process;
+        transferProcessCreated.complete(process);
+    }
+
+    @Override
+    protected TransitionJournal getJournal() {
+        return transferProcess == null ? null : transferProcess.getJournal();
     }
 
     @Override
@@ -129,7 +148,7 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerProtocolHandler(TRANSFER_START_PATH, new FallibleDspHandler(msg -> {
-                    var result = action.apply((MessageSerializer.expandAndDeserialize(msg)));
+                    var result = action.apply(expandMessage(msg));
                     endpoint.deregisterHandler(TRANSFER_START_PATH);
                     latch.countDown();
                     return result;
@@ -143,7 +162,7 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(TRANSFER_TERMINATION_PATH, offer -> {
-                    var transfer = action.apply((MessageSerializer.expandAndDeserialize(offer)));
+                    var transfer = action.apply(expandMessage(offer));
                     endpoint.deregisterHandler(TRANSFER_TERMINATION_PATH);
                     latch.countDown();
                     return serialize(transfer);
@@ -158,7 +177,7 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerProtocolHandler(TRANSFER_COMPLETION_PATH, new FallibleDspHandler(offer -> {
-                    var result = action.apply((MessageSerializer.expandAndDeserialize(offer)));
+                    var result = action.apply(expandMessage(offer));
                     endpoint.deregisterHandler(TRANSFER_COMPLETION_PATH);
                     latch.countDown();
                     return result;
@@ -173,7 +192,7 @@ public abstract class AbstractTransferProcessPipeline<P extends TransferProcessP
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerProtocolHandler(TRANSFER_SUSPENSION_PATH, new FallibleDspHandler(offer -> {
-                    var result = action.apply((MessageSerializer.expandAndDeserialize(offer)));
+                    var result = action.apply(expandMessage(offer));
                     endpoint.deregisterHandler(TRANSFER_SUSPENSION_PATH);
                     latch.countDown();
                     return result;
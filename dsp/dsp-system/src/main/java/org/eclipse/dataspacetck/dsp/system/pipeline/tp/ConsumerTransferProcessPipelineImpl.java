@@ -18,7 +18,6 @@ import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dsp.system.api.connector.Connector;
 import org.eclipse.dataspacetck.dsp.system.api.connector.tp.TransferProcessListener;
-import org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer;
 import org.eclipse.dataspacetck.dsp.system.api.pipeline.tp.ConsumerTransferProcessPipeline;
 import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransferProcess;
 import org.eclipse.dataspacetck.dsp.system.client.tp.ConsumerTransferProcessClient;
@@ -30,7 +29,6 @@ import java.util.function.BiFunction;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_NAMESPACE;
 import static org.eclipse.dataspacetck.dsp.system.api.message.DspConstants.DSPACE_PROPERTY_STATE_EXPANDED;
 import static org.eclipse.dataspacetck.dsp.system.api.message.JsonLdFunctions.stringIdProperty;
-import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.expandAndDeserialize;
 import static org.eclipse.dataspacetck.dsp.system.api.message.MessageSerializer.serialize;
 
 public class ConsumerTransferProcessPipelineImpl extends AbstractTransferProcessPipeline<ConsumerTransferProcessPipeline> implements ConsumerTransferProcessPipeline {
@@ -61,7 +59,7 @@ public class ConsumerTransferProcessPipelineImpl extends AbstractTransferProcess
             providerConnector.getProviderTransferProcessManager().registerListener(new TransferProcessListener() {
                 @Override
                 public void requested(TransferProcess transferProcess) {
-                    ConsumerTransferProcessPipelineImpl.this.transferProcess = transferProcess;
+                    ConsumerTransferProcessPipelineImpl.this.setTransferProcess(transferProcess);
                     // Remove the listener
                     providerConnector.getProviderTransferProcessManager().deregisterListener(this);
                 }
@@ -78,11 +76,11 @@ public class ConsumerTransferProcessPipelineImpl extends AbstractTransferProcess
         expectLatches.add(latch);
         stages.add(() ->
                 endpoint.registerHandler(REQUEST_PATH, event -> {
-                    var expanded = MessageSerializer.expandAndDeserialize(event);
+                    var expanded = expandMessage(event);
                     var negotiation = action.apply(expanded, consumerConnectorId);
                     endpoint.deregisterHandler(REQUEST_PATH);
                     latch.countDown();
-                    return serialize(expandAndDeserialize(negotiation));
+                    return serialize(negotiation);
                 }));
         return this;
     }
@@ -92,6 +90,13 @@ public class ConsumerTransferProcessPipelineImpl extends AbstractTransferProcess
         return this;
     }
 
+    @Override
+    protected void verifyEvents() {
+        if (transferProcess != null) {
+            providerConnector.verifyEvents(transferProcess.getId());
+        }
+    }
+
     @Override
     protected void suspended(String id) {
         providerConnector.getProviderTransferProcessManager().suspended(id);
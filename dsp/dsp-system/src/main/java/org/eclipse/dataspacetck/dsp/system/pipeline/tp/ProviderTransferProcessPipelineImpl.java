@@ -51,7 +51,7 @@ public class ProviderTransferProcessPipelineImpl extends AbstractTransferProcess
     @Override
     public ProviderTransferProcessPipeline sendTransferRequest(String agreementId, String format, TransferProcess.DataAddress dataAddress) {
         stages.add(() -> {
-            transferProcess = consumerConnector.getConsumerTransferProcessManager().createTransferProcess(agreementId, format, providerBaseUrl, dataAddress);
+            setTransferProcess(consumerConnector.getConsumerTransferProcessManager().createTransferProcess(agreementId, format, providerBaseUrl, dataAddress));
             var contractRequest = createTransferRequest(transferProcess.getId(), transferProcess.getAgreementId(), transferProcess.getFormat(), transferProcess.getDataAddress(), endpoint.getAddress());
 
             monitor.debug("Sending transfer request");
@@ -67,6 +67,13 @@ public class ProviderTransferProcessPipelineImpl extends AbstractTransferProcess
         return this;
     }
 
+    @Override
+    protected void verifyEvents() {
+        if (transferProcess != null) {
+            consumerConnector.verifyEvents(transferProcess.getId());
+        }
+    }
+
     @Override
     public ProviderTransferProcessPipeline thenVerifyProviderState(TransferProcess.State state) {
         thenWait("for provider transfer process state to be " + state, () -> {
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dsp.system.connector;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ProcessEventBusTest {
+    private final Monitor monitor = mock(Monitor.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @Test
+    void verifyEventsOfProcessDeliveredInOrder() {
+        var bus = new ProcessEventBus(executor, 64, monitor);
+        var delivered = new ConcurrentHashMap<String, List<Integer>>();
+        var active = new ConcurrentHashMap<String, AtomicInteger>();
+        var overlaps = new AtomicInteger();
+
+        for (var i = 0; i < 500; i++) {
+            for (var process : List.of("p1", "p2", "p3")) {
+                var sequence = i;
+                bus.publish(process, () -> {
+                    var running = active.computeIfAbsent(process, k -> new AtomicInteger());
+                    if (running.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    delivered.computeIfAbsent(process, k -> new CopyOnWriteArrayList<>()).add(sequence);
+                    running.decrementAndGet();
+                });
+            }
+        }
+
+        await().atMost(10, SECONDS).until(() -> delivered.values().stream().mapToInt(List::size).sum() == 1500);
+        delivered.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(500));
+        assertThat(overlaps).hasValue(0);
+    }
+
+    @Test
+    void verifyPublishTimesOutWhenFull() {
+        var tasks = new ArrayList<Runnable>();
+        var bus = new ProcessEventBus(tasks::add, 2, Duration.ofMillis(50), monitor);
+        var delivered = new AtomicInteger();
+
+        bus.publish("p1", delivered::incrementAndGet);
+        bus.publish("p1", delivered::incrementAndGet);
+
+        assertThatThrownBy(() -> bus.publish("p2", delivered::incrementAndGet))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("p2");
+        assertThat(tasks).hasSize(1);
+
+        tasks.remove(0).run();
+        bus.publish("p2", delivered::incrementAndGet);
+        tasks.remove(0).run();
+
+        assertThat(delivered).hasValue(3);
+    }
+
+    @Test
+    void verifyConcurrentPublishersAreNotStranded() throws InterruptedException {
+        var bus = new ProcessEventBus(executor, 1024, monitor);
+        var publishers = Executors.newFixedThreadPool(4);
+        var delivered = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        try {
+            for (var i = 0; i < 4; i++) {
+                publishers.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (var j = 0; j < 2000; j++) {
+                        bus.publish("p1", delivered::incrementAndGet);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            publishers.shutdown();
+            assertThat(publishers.awaitTermination(10, SECONDS)).isTrue();
+        }
+
+        await().atMost(10, SECONDS).untilAsserted(() -> {
+            assertThat(delivered).hasValue(8000);
+            assertThat(bus.getActiveProcesses()).isZero();
+        });
+    }
+
+    @Test
+    void verifyListenerFailureIsolated() {
+        var bus = ProcessEventBus.synchronous(monitor);
+        var delivered = new AtomicInteger();
+
+        bus.publish("p1", () -> {
+            throw new IllegalStateException("listener failed");
+        });
+        bus.publish("p1", delivered::incrementAndGet);
+        bus.publish("p2", delivered::incrementAndGet);
+
+        assertThat(delivered).hasValue(2);
+        verify(monitor).message(contains("listener failed"));
+    }
+
+    @Test
+    void verifyAssertionErrorPropagated() {
+        var bus = ProcessEventBus.synchronous(monitor);
+        var delivered = new AtomicInteger();
+
+        assertThatThrownBy(() -> bus.publish("p1", () -> {
+            throw new AssertionError("unexpected state");
+        })).isInstanceOf(AssertionError.class).hasMessage("unexpected state");
+        bus.publish("p1", delivered::incrementAndGet);
+
+        assertThat(delivered).hasValue(1);
+        assertThat(bus.getActiveProcesses()).isZero();
+    }
+
+    @Test
+    void verifyAssertionErrorRecordedOnAsyncBus() {
+        var bus = new ProcessEventBus(executor, 64, monitor);
+        var delivered = new AtomicInteger();
+
+        bus.publish("p1", () -> {
+            throw new AssertionError("unexpected state");
+        });
+        bus.publish("p1", () -> {
+            throw new AssertionError("unexpected event");
+        });
+        bus.publish("p1", delivered::incrementAndGet);
+        bus.publish("p2", delivered::incrementAndGet);
+
+        await().atMost(10, SECONDS).untilAsserted(() -> {
+            assertThat(delivered).hasValue(2);
+            assertThat(bus.getActiveProcesses()).isZero();
+        });
+        bus.verify("p2");
+        assertThatThrownBy(() -> bus.verify("p1"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("unexpected state")
+                .hasSuppressedException(new AssertionError("unexpected event"));
+        bus.verify("p1");
+    }
+
+    @Test
+    void verifyIdleProcessesRemoved() {
+        var bus = ProcessEventBus.synchronous(monitor);
+        var delivered = Map.of("p1", new AtomicInteger(), "p2", new AtomicInteger());
+
+        delivered.forEach((process, count) -> bus.publish(process, count::incrementAndGet));
+
+        assertThat(delivered.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+        assertThat(bus.getActiveProcesses()).isZero();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+}
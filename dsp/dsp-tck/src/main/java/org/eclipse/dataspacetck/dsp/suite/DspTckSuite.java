@@ -16,19 +16,31 @@ package org.eclipse.dataspacetck.dsp.suite;
 
 import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.system.ConsoleMonitor;
+import org.eclipse.dataspacetck.dsp.system.api.http.HttpFunctions;
+import org.eclipse.dataspacetck.dsp.system.api.http.WireStatistics;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionJournal;
+import org.eclipse.dataspacetck.dsp.system.api.statemachine.TransitionStatistics;
+import org.eclipse.dataspacetck.dsp.system.api.verification.SchemaCache;
 import org.eclipse.dataspacetck.runtime.ConsoleResultWriter;
 import org.eclipse.dataspacetck.runtime.TckRuntime;
 import org.jetbrains.annotations.NotNull;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
 import static java.lang.Boolean.parseBoolean;
+import static java.lang.String.format;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.ANSI_PROPERTY;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.DEBUG_PROPERTY;
@@ -41,6 +53,11 @@ public class DspTckSuite {
     private static final String CONFIG = "-config";
     private static final String DEFAULT_LAUNCHER = "org.eclipse.dataspacetck.dsp.system.DspSystemLauncher";
     private static final String TEST_PACKAGE = "org.eclipse.dataspacetck.dsp.verification";
+    private static final String TARGETS_PROPERTY = "dataspacetck.dsp.targets";
+    private static final String TARGET_PREFIX = "dataspacetck.dsp.target.";
+    private static final String TARGET_NAME_PROPERTY = TARGET_PREFIX + "name";
+    private static final String TCK_PROPERTY_PREFIX = "dataspacetck.";
+    private static final List<String> SHARED_PROPERTY_PREFIXES = List.of("dsp.http.", "dsp.message.", "dsp.validation.");
 
     public static void main(String... args) {
         var properties = processEnv(args);
@@ -49,15 +66,162 @@ public class DspTckSuite {
         }
         var monitor = createMonitor(properties);
         monitor.enableBold().message("\u001B[1mRunning DSP TCK v" + VERSION + "\u001B[0m").resetMode();
-        var result = TckRuntime.Builder.newInstance()
+        warmSchemas(monitor);
+        var targets = parseTargets(properties);
+        if (targets.isEmpty()) {
+            var result = execute(properties, monitor);
+            new ConsoleResultWriter(monitor).output(result);
+        } else {
+            executeTargets(targets, properties, monitor);
+        }
+        reportRetries(monitor);
+        reportWireTimings(monitor);
+        reportTransitionLatencies(monitor);
+
+        monitor.resetMode().message("Test run complete");
+    }
+
+    private static TestExecutionSummary execute(Map<String, String> properties, Monitor monitor) {
+        return TckRuntime.Builder.newInstance()
                 .properties(properties)
                 .addPackage(TEST_PACKAGE)
                 .monitor(monitor)
                 .build().execute();
+    }
 
-        new ConsoleResultWriter(monitor).output(result);
+    /**
+     * Runs the suite against all named targets in parallel and prints the results per target once all runs are complete. Each
+     * target runs with its own launcher and therefore its own client state; the HTTP client and schema caches are shared.
+     */
+    private static void executeTargets(List<String> targets, Map<String, String> properties, Monitor monitor) {
+        var executor = Executors.newFixedThreadPool(targets.size());
+        try {
+            var results = new LinkedHashMap<String, CompletableFuture<TestExecutionSummary>>();
+            for (var target : targets) {
+                var targetProperties = targetProperties(target, properties);
+                var targetMonitor = createMonitor(targetProperties);
+                results.put(target, CompletableFuture.supplyAsync(() -> execute(targetProperties, targetMonitor), executor));
+            }
+            results.forEach((target, result) -> {
+                monitor.enableBold().message("Results for target: " + target).resetMode();
+                new ConsoleResultWriter(monitor).output(result.join());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        monitor.resetMode().message("Test run complete");
+    private static List<String> parseTargets(Map<String, String> properties) {
+        var targets = properties.get(TARGETS_PROPERTY);
+        if (targets == null || targets.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(targets.split(","))
+                .map(String::trim)
+                .filter(target -> !target.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the base properties overlaid with the target's overrides. A property {@code dataspacetck.dsp.target.<name>.<key>}
+     * overrides {@code dataspacetck.<key>} for the named target. The HTTP client, message and validation settings are shared by all
+     * targets in the JVM and cannot be overridden per target.
+     */
+    static Map<String, String> targetProperties(String target, Map<String, String> properties) {
+        var prefix = TARGET_PREFIX + target + ".";
+        var result = new HashMap<String, String>();
+        properties.forEach((key, value) -> {
+            if (!key.startsWith(TARGET_PREFIX) && !key.equals(TARGETS_PROPERTY)) {
+                result.put(key, value);
+            }
+        });
+        properties.forEach((key, value) -> {
+            if (key.startsWith(prefix)) {
+                var targetKey = key.substring(prefix.length());
+                if (SHARED_PROPERTY_PREFIXES.stream().anyMatch(targetKey::startsWith)) {
+                    throw new IllegalArgumentException("Property is shared by all targets and cannot be overridden per target: " + key);
+                }
+                result.put(TCK_PROPERTY_PREFIX + targetKey, value);
+            }
+        });
+        result.put(TARGET_NAME_PROPERTY, target);
+        return result;
+    }
+
+    /**
+     * Compiles the bundled schemas in parallel before the tests run. A schema that fails to compile is reported here and fails
+     * the tests that validate against it.
+     */
+    private static void warmSchemas(Monitor monitor) {
+        try {
+            SchemaCache.warm(SchemaCache.getIndexedSchemas());
+        } catch (RuntimeException e) {
+            monitor.message("Schema compilation failed: " + e.getMessage());
+        }
+        monitor.message("Schema compile times (ms):");
+        SchemaCache.getCompileTimes().forEach((schema, time) -> monitor.message(format("  %s: %.1f", schema, time.toNanos() / 1_000_000.0)));
+    }
+
+    private static void reportRetries(Monitor monitor) {
+        var statistics = HttpFunctions.getRetryStatistics();
+        if (statistics.getRetries() == 0 && statistics.getDeclined() == 0) {
+            return;
+        }
+        monitor.message(format("HTTP retries: %s (%s ms waiting), retries declined: %s",
+                statistics.getRetries(), statistics.getTotalDelay().toMillis(), statistics.getDeclined()));
+        statistics.getCompletionsByAttempts()
+                .forEach((attempts, count) -> monitor.message(format("  Requests completed after %s attempt(s): %s", attempts, count)));
+    }
+
+    private static void reportWireTimings(Monitor monitor) {
+        var endpoints = HttpFunctions.getWireStatistics().getEndpoints();
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        monitor.message("HTTP wire timings per endpoint (mean ms):");
+        endpoints.forEach((tag, statistics) -> {
+            monitor.message(format("  %s: %s calls, %s failed, total %.1f (dns %.1f, connect %.1f, tls %.1f, write %.1f, ttfb %.1f, read %.1f), queued %.1f",
+                    tag, statistics.getCount(), statistics.getFailures(), statistics.getMeanTotalMillis(), statistics.getMeanDnsMillis(),
+                    statistics.getMeanConnectMillis(), statistics.getMeanTlsMillis(), statistics.getMeanRequestWriteMillis(),
+                    statistics.getMeanTimeToFirstByteMillis(), statistics.getMeanBodyReadMillis(), statistics.getMeanQueueMillis()));
+            monitor.message("    " + formatHistogram(statistics.getHistogram(), WireStatistics.BUCKET_BOUNDS_MILLIS));
+        });
+    }
+
+    /**
+     * Reports the transition latencies of a single run, or of each target of a multi-target run so that the latencies of
+     * different connectors under test are not merged into one histogram.
+     */
+    private static void reportTransitionLatencies(Monitor monitor) {
+        reportTransitionLatencies(monitor, "State transition latencies", TransitionJournal.getStatistics());
+        TransitionJournal.getTargetStatistics().forEach((target, statistics) ->
+                reportTransitionLatencies(monitor, "State transition latencies for target " + target, statistics));
+    }
+
+    private static void reportTransitionLatencies(Monitor monitor, String title, TransitionStatistics statistics) {
+        var transitions = statistics.getTransitions();
+        if (transitions.isEmpty()) {
+            return;
+        }
+        monitor.message(title + ", time spent in the previous state (ms):");
+        transitions.forEach((key, latency) -> {
+            monitor.message(format("  %s %s -> %s: %s transitions, mean %.1f, max %.1f",
+                    key.process(), key.from(), key.to(), latency.getCount(), latency.getMeanMillis(), latency.getMaxMillis()));
+            monitor.message("    " + formatHistogram(latency.getHistogram(), TransitionStatistics.BUCKET_BOUNDS_MILLIS));
+        });
+    }
+
+    private static String formatHistogram(long[] histogram, long[] bounds) {
+        var builder = new StringBuilder();
+        for (var i = 0; i < histogram.length; i++) {
+            if (histogram[i] == 0) {
+                continue;
+            }
+            var label = i < bounds.length ? "<=" + bounds[i] + "ms" : ">" + bounds[bounds.length - 1] + "ms";
+            builder.append(label).append(": ").append(histogram[i]).append("  ");
+        }
+        return builder.toString().trim();
     }
 
     @NotNull
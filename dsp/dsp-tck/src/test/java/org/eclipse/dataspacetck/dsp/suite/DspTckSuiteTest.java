@@ -19,7 +19,10 @@ import org.eclipse.dataspacetck.dsp.system.DspSystemLauncher;
 import org.eclipse.dataspacetck.runtime.TckRuntime;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUNCHER;
 
 class DspTckSuiteTest {
@@ -35,4 +38,34 @@ class DspTckSuiteTest {
 
         assertThat(result.getFailures()).isEmpty();
     }
+
+    @Test
+    void verifyTargetPropertiesOverrideBase() {
+        var properties = Map.of(
+                "dataspacetck.dsp.targets", "alpha,beta",
+                "dataspacetck.dsp.connector.http.url", "http://base/dsp",
+                "dataspacetck.dsp.http.max.requests", "32",
+                "dataspacetck.dsp.target.alpha.dsp.connector.http.url", "http://alpha/dsp",
+                "dataspacetck.dsp.target.beta.dsp.connector.http.url", "http://beta/dsp");
+
+        var result = DspTckSuite.targetProperties("alpha", properties);
+
+        assertThat(result)
+                .containsEntry("dataspacetck.dsp.connector.http.url", "http://alpha/dsp")
+                .containsEntry("dataspacetck.dsp.http.max.requests", "32")
+                .containsEntry("dataspacetck.dsp.target.name", "alpha")
+                .doesNotContainKey("dataspacetck.dsp.targets")
+                .doesNotContainKey("dataspacetck.dsp.target.beta.dsp.connector.http.url");
+    }
+
+    @Test
+    void verifyTargetOverrideOfSharedPropertyRejected() {
+        var properties = Map.of(
+                "dataspacetck.dsp.targets", "alpha",
+                "dataspacetck.dsp.target.alpha.dsp.message.max.size", "1024");
+
+        assertThatThrownBy(() -> DspTckSuite.targetProperties("alpha", properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("dataspacetck.dsp.target.alpha.dsp.message.max.size");
+    }
 }
@@ -49,8 +49,7 @@ public class ConsumerActions {
             checkResponse(response);
             var jsonResponse = expandAndDeserialize(response.body().byteStream());
             var providerId = stringIdProperty(DSPACE_PROPERTY_PROVIDER_PID_EXPANDED, jsonResponse);
-            transferProcess.setCorrelationId(providerId);
-            transferProcess.transition(REQUESTED);
+            transferProcess.setCorrelationId(providerId, REQUESTED);
         }
     }
 
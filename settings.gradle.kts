@@ -29,6 +29,7 @@ pluginManagement {
 
 
 include("dsp:dsp-api")
+include("dsp:dsp-schemas")
 include("dsp:dsp-system")
 include("dsp:dsp-contract-negotiation")
 include("dsp:dsp-transfer-process")